@@ -0,0 +1,70 @@
+package com.smooth.smooth_backend_user.config;
+
+import com.smooth.smooth_backend_user.service.TokenBlacklistService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// 인증 요청 1건의 필터 비용 (블랙리스트는 stub, Redis 미사용)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    // true: 검증 캐시 적중 경로, false: 캐시 없이 매 요청 verifyToken 직접 호출 (digest/캐시 조회 비용 제외)
+    @Param({"true", "false"})
+    public boolean cached;
+
+    private JwtAuthenticationFilter filter;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(
+                JwtTokenProviderBenchmark.SECRET, JwtTokenProviderBenchmark.VALIDITY);
+        VerifiedTokenCache verifiedTokenCache = cached
+                ? new VerifiedTokenCache(jwtTokenProvider, new SimpleMeterRegistry(), 10_000)
+                : new DirectVerification(jwtTokenProvider);
+        TokenBlacklistService tokenBlacklistService = Mockito.mock(TokenBlacklistService.class);
+
+        filter = new JwtAuthenticationFilter(verifiedTokenCache, tokenBlacklistService);
+        authorizationHeader = "Bearer " + jwtTokenProvider.createToken(42L, "user@smooth.com");
+    }
+
+    @Benchmark
+    public Object doFilterInternal() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/user/profile");
+        request.addHeader("Authorization", authorizationHeader);
+
+        filter.doFilterInternal(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+
+    // 캐시를 거치지 않는 기준 경로
+    private static class DirectVerification extends VerifiedTokenCache {
+
+        private final JwtTokenProvider jwtTokenProvider;
+
+        DirectVerification(JwtTokenProvider jwtTokenProvider) {
+            super(jwtTokenProvider, new SimpleMeterRegistry(), 0);
+            this.jwtTokenProvider = jwtTokenProvider;
+        }
+
+        @Override
+        public Optional<VerifiedToken> verify(String token) {
+            return jwtTokenProvider.verifyToken(token);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.smooth.smooth_backend_user.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// JwtTokenProvider 요청당 비용
+// - legacyValidateThenExtract: 기존 필터 경로 (validateToken + getUserId + getEmail, 매번 parserBuilder 생성 + 3회 파싱)
+// - verifyToken: 1회 파싱
+// - verifiedTokenCacheHit: 검증 캐시 적중 시
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtTokenProviderBenchmark {
+
+    static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+    static final long VALIDITY = 86_400_000L;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private SecretKey legacySecretKey;
+    private VerifiedTokenCache verifiedTokenCache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, VALIDITY);
+        legacySecretKey = Keys.hmacShaKeyFor(SECRET.getBytes());
+        verifiedTokenCache = new VerifiedTokenCache(jwtTokenProvider, new SimpleMeterRegistry(), 10_000);
+        token = jwtTokenProvider.createToken(42L, "user@smooth.com");
+        verifiedTokenCache.verify(token);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtTokenProvider.createToken(42L, "user@smooth.com");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Long getUserId() {
+        return jwtTokenProvider.getUserId(token);
+    }
+
+    @Benchmark
+    public String getEmail() {
+        return jwtTokenProvider.getEmail(token);
+    }
+
+    // 변경 전 JwtTokenProvider 와 같은 방식: 호출마다 parserBuilder 로 파서를 새로 생성
+    @Benchmark
+    public void legacyValidateThenExtract(Blackhole blackhole) {
+        try {
+            legacyParse(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return;
+        }
+        blackhole.consume(Long.valueOf(legacyParse(token).getSubject()));
+        blackhole.consume(legacyParse(token).get("email", String.class));
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verifyToken() {
+        return jwtTokenProvider.verifyToken(token);
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verifiedTokenCacheHit() {
+        return verifiedTokenCache.verify(token);
+    }
+
+    private Claims legacyParse(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(legacySecretKey)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
@@ -0,0 +1,94 @@
+package com.smooth.smooth_backend_user.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smooth.smooth_backend_user.dto.response.UserProfileResponseDto;
+import com.smooth.smooth_backend_user.entity.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// Redis 값 코덱별 왕복(직렬화 + 역직렬화) 처리량, 값 크기("bytes per key")는 setup 시 출력
+// - 문자열 값 (인증코드, 카운터/epoch): 기존 JSON vs UTF-8 그대로
+// - 객체 값 (프로필): 기존 JSON vs Smile
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RedisCodecBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class StringPayload {
+
+        @Param({"code", "counter"})
+        public String payload;
+
+        final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+        final StringRedisSerializer raw = StringRedisSerializer.UTF_8;
+        String value;
+
+        @Setup
+        public void setUp() {
+            value = "code".equals(payload) ? "48213" : "1735689600000";
+            report("json", payload, json.serialize(value));
+            report("string", payload, raw.serialize(value));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ObjectPayload {
+
+        // LocalDateTime 직렬화를 위해 JavaTimeModule 등록 (기존 설정에는 없음)
+        final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer()
+                .configure(ObjectMapper::findAndRegisterModules);
+        final SmileRedisSerializer smile = new SmileRedisSerializer();
+        UserProfileResponseDto value;
+
+        @Setup
+        public void setUp() {
+            value = UserProfileResponseDto.builder()
+                    .id(42L)
+                    .email("user@smooth.com")
+                    .name("홍길동")
+                    .phone("010-1234-5678")
+                    .gender(User.Gender.MALE)
+                    .bloodType(User.BloodType.A)
+                    .emergencyContact1("010-1111-2222")
+                    .emergencyContact2("010-3333-4444")
+                    .createdAt(LocalDateTime.of(2025, 1, 1, 9, 0))
+                    .updatedAt(LocalDateTime.of(2025, 6, 1, 9, 0))
+                    .build();
+            report("json", "profile", json.serialize(value));
+            report("smile", "profile", smile.serialize(value));
+        }
+    }
+
+    @Benchmark
+    public Object stringJson(StringPayload state) {
+        return roundTrip(state.json, state.value);
+    }
+
+    @Benchmark
+    public Object stringRaw(StringPayload state) {
+        return state.raw.deserialize(state.raw.serialize(state.value));
+    }
+
+    @Benchmark
+    public Object objectJson(ObjectPayload state) {
+        return roundTrip(state.json, state.value);
+    }
+
+    @Benchmark
+    public Object objectSmile(ObjectPayload state) {
+        return roundTrip(state.smile, state.value);
+    }
+
+    private static Object roundTrip(RedisSerializer<Object> serializer, Object value) {
+        return serializer.deserialize(serializer.serialize(value));
+    }
+
+    private static void report(String codec, String payload, byte[] encoded) {
+        System.out.printf("%n[redis-codec] codec=%s payload=%s bytes=%d%n", codec, payload, encoded.length);
+    }
+}
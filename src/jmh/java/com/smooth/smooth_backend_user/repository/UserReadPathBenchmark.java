@@ -0,0 +1,124 @@
+package com.smooth.smooth_backend_user.repository;
+
+import com.smooth.smooth_backend_user.dto.response.UserProfileResponseDto;
+import com.smooth.smooth_backend_user.entity.User;
+import com.smooth.smooth_backend_user.entity.UserVehicle;
+import com.smooth.smooth_backend_user.entity.Vehicle;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 로그인/프로필 조회 경로: 엔티티 로딩 vs 프로젝션 (조회 1건 = 1 op -> ops/s = rows/s)
+// - 요청당 할당량은 gc 프로파일러의 gc.alloc.rate.norm (build.gradle jmh 설정)
+// - H2 인메모리 DB (MySQL 모드), 실제 UserRepository 쿼리 사용
+// - 요청 단위 영속성 컨텍스트를 흉내내기 위해 매 op 트랜잭션 + clear
+// - 조회 경로별 SQL 1건 여부는 UserRepositorySqlTest 에서 검사
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class UserReadPathBenchmark {
+
+    private static final int USER_COUNT = 1000;
+
+    private SessionFactory sessionFactory;
+    private EntityManager entityManager;
+    private UserRepository userRepository;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(UserVehicle.class)
+                .addAnnotatedClass(Vehicle.class)
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:user-read-path;MODE=MySQL;DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.connection.username", "sa")
+                .setProperty("hibernate.connection.password", "")
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .buildSessionFactory();
+        entityManager = sessionFactory.createEntityManager();
+        userRepository = new JpaRepositoryFactory(entityManager).getRepository(UserRepository.class);
+
+        entityManager.getTransaction().begin();
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = new User();
+            user.setEmail("user" + i + "@smooth.com");
+            user.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z1Z5Lx0p6q7y8x9wK1mN2oPq");
+            user.setName("사용자" + i);
+            user.setPhone("010-1234-" + String.format("%04d", i));
+            user.setGender(User.Gender.MALE);
+            user.setBloodType(User.BloodType.A);
+            user.setEmergencyContact1("010-1111-2222");
+            user.setTermsOfServiceAgreed(true);
+            user.setPrivacyPolicyAgreed(true);
+            user.setTermsAgreedAt(LocalDateTime.now());
+            entityManager.persist(user);
+        }
+
+        // 차량 연동된 사용자도 포함 (연동 여부와 관계없이 user_vehicle 조회가 없어야 함)
+        User linkedUser = userRepository.findById(1L).orElseThrow();
+        Vehicle vehicle = Vehicle.createVehicle("12가3456", "350000000000001");
+        UserVehicle.createUserVehicle(linkedUser, vehicle);
+        entityManager.persist(vehicle);
+        entityManager.getTransaction().commit();
+        entityManager.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        sessionFactory.close();
+    }
+
+    // 기존 로그인: 전체 컬럼 엔티티 로딩
+    @Benchmark
+    public Object loginEntity() {
+        String email = nextEmail();
+        return inRequest(() -> userRepository.findByEmail(email).orElseThrow());
+    }
+
+    @Benchmark
+    public Object loginProjection() {
+        String email = nextEmail();
+        return inRequest(() -> userRepository.findCredentialsByEmail(email).orElseThrow());
+    }
+
+    // 기존 프로필: 엔티티 로딩 후 DTO 변환
+    @Benchmark
+    public Object profileEntity() {
+        long id = nextId();
+        return inRequest(() -> UserProfileResponseDto.fromUser(userRepository.findById(id).orElseThrow()));
+    }
+
+    @Benchmark
+    public Object profileProjection() {
+        long id = nextId();
+        return inRequest(() -> userRepository.findProfileById(id).orElseThrow());
+    }
+
+    private <T> T inRequest(Supplier<T> query) {
+        entityManager.getTransaction().begin();
+        try {
+            return query.get();
+        } finally {
+            entityManager.getTransaction().commit();
+            entityManager.clear();
+        }
+    }
+
+    private String nextEmail() {
+        return "user" + (next++ % USER_COUNT) + "@smooth.com";
+    }
+
+    private long nextId() {
+        return next++ % USER_COUNT + 1;
+    }
+}
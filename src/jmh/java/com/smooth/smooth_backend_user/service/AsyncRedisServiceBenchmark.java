@@ -0,0 +1,74 @@
+package com.smooth.smooth_backend_user.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+// JWT 필터의 폐기 확인 Redis 조회 2건 (블랙리스트 EXISTS + 폐기 기준 시각 GET)
+// - sequential: RedisService 동기 호출 2회 (왕복 2회 직렬)
+// - overlapped: AsyncRedisService 로 동시에 전송 (왕복 1회)
+// - Redis 대역 서버가 응답마다 latencyMicros 지연 주입 (cross-AZ 왕복 가정)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class AsyncRedisServiceBenchmark {
+
+    private static final String REVOCATION_ID = "q8Zr3xP1m0bS9vT2wY7nC4kD6fH5jL8aE1gR0uI3oQw";
+
+    @Param({"0", "500", "2000"})
+    public long latencyMicros;
+
+    private LatencyInjectingRedisServer server;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisService redisService;
+    private AsyncRedisService asyncRedisService;
+
+    @Setup
+    public void setUp() throws Exception {
+        server = new LatencyInjectingRedisServer(latencyMicros);
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", server.getPort()));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        redisService = new RedisService(redisTemplate, new StringRedisTemplate(connectionFactory));
+        asyncRedisService = new AsyncRedisService(new ReactiveStringRedisTemplate(connectionFactory));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        connectionFactory.destroy();
+        server.close();
+    }
+
+    @Benchmark
+    public boolean sequential() {
+        boolean blacklisted = redisService.isTokenBlacklisted(REVOCATION_ID);
+        Long epoch = redisService.getRevocationEpoch(42L);
+        return blacklisted || epoch != null;
+    }
+
+    @Benchmark
+    public boolean overlapped() {
+        return Mono.zip(
+                        asyncRedisService.isTokenBlacklisted(REVOCATION_ID),
+                        asyncRedisService.getRevocationEpoch(42L).defaultIfEmpty(0L))
+                .map(result -> result.getT1() || result.getT2() != 0L)
+                .block();
+    }
+}
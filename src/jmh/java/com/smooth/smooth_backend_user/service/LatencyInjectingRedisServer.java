@@ -0,0 +1,147 @@
+package com.smooth.smooth_backend_user.service;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.LockSupport;
+
+// 벤치마크용 Redis 대역 (RESP2 최소 구현, 응답마다 고정 지연 주입)
+// - 네트워크 왕복처럼 동작: 명령은 계속 수신하고 응답만 수신 시각 + 지연 후 순서대로 전송 (pipelining 유지)
+// - 빈 Redis 와 같은 응답: EXISTS -> 0, GET -> nil, 그 외 -> OK
+class LatencyInjectingRedisServer implements AutoCloseable {
+
+    private static final byte[] OK = "+OK\r\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PONG = "+PONG\r\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ZERO = ":0\r\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NIL = "$-1\r\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] UNKNOWN_HELLO = "-ERR unknown command 'HELLO'\r\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final ServerSocket serverSocket;
+    private final long latencyNanos;
+    private volatile boolean running = true;
+
+    LatencyInjectingRedisServer(long latencyMicros) throws IOException {
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        this.latencyNanos = latencyMicros * 1000;
+
+        Thread acceptor = new Thread(this::acceptLoop, "fake-redis-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                BlockingQueue<Reply> replies = new LinkedBlockingQueue<>();
+
+                Thread reader = new Thread(() -> readLoop(socket, replies), "fake-redis-reader");
+                Thread writer = new Thread(() -> writeLoop(socket, replies), "fake-redis-writer");
+                reader.setDaemon(true);
+                writer.setDaemon(true);
+                reader.start();
+                writer.start();
+            } catch (IOException e) {
+                if (running) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+
+    private void readLoop(Socket socket, BlockingQueue<Reply> replies) {
+        try (InputStream in = new BufferedInputStream(socket.getInputStream())) {
+            while (running) {
+                String command = readCommandName(in);
+                if (command == null) {
+                    return;
+                }
+                replies.put(new Reply(System.nanoTime() + latencyNanos, reply(command)));
+            }
+        } catch (IOException | InterruptedException e) {
+            // 연결 종료
+        }
+    }
+
+    private void writeLoop(Socket socket, BlockingQueue<Reply> replies) {
+        try (OutputStream out = socket.getOutputStream()) {
+            while (running) {
+                Reply reply = replies.take();
+                long wait = reply.dueNanos() - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                out.write(reply.payload());
+                if (replies.isEmpty()) {
+                    out.flush();
+                }
+            }
+        } catch (IOException | InterruptedException e) {
+            // 연결 종료
+        }
+    }
+
+    private static byte[] reply(String command) {
+        return switch (command) {
+            case "PING" -> PONG;
+            case "HELLO" -> UNKNOWN_HELLO;
+            case "EXISTS" -> ZERO;
+            case "GET" -> NIL;
+            default -> OK;
+        };
+    }
+
+    // "*<n>\r\n$<len>\r\n<arg>\r\n..." -> 첫 인자(명령 이름)
+    private static String readCommandName(InputStream in) throws IOException {
+        String header = readLine(in);
+        if (header == null) {
+            return null;
+        }
+        int argumentCount = Integer.parseInt(header.substring(1));
+
+        String command = null;
+        for (int i = 0; i < argumentCount; i++) {
+            int length = Integer.parseInt(readLine(in).substring(1));
+            byte[] argument = in.readNBytes(length);
+            in.readNBytes(2); // \r\n
+            if (i == 0) {
+                command = new String(argument, StandardCharsets.US_ASCII).toUpperCase();
+            }
+        }
+        return command;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\r') {
+                in.read(); // \n
+                return line.toString();
+            }
+            line.append((char) b);
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        serverSocket.close();
+    }
+
+    private record Reply(long dueNanos, byte[] payload) {
+    }
+}
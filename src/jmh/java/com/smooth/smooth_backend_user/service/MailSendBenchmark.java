@@ -0,0 +1,66 @@
+package com.smooth.smooth_backend_user.service;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 인증 메일 10건 발송 처리량: 메시지마다 연결 vs 풀링된 연결로 배치 발송
+// - 로컬 SMTP 서버(GreenMail)에 발송, 메일 본문 생성 비용 포함
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class MailSendBenchmark {
+
+    private static final int BATCH_SIZE = 10;
+
+    private GreenMail smtpServer;
+    private JavaMailSenderImpl mailSender;
+    private EmailService emailService;
+    private PooledMailSender pooledMailSender;
+
+    @Setup
+    public void setUp() {
+        smtpServer = new GreenMail(new ServerSetup(3025, "127.0.0.1", ServerSetup.PROTOCOL_SMTP));
+        smtpServer.start();
+
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(3025);
+
+        emailService = new EmailService(mailSender);
+        pooledMailSender = new PooledMailSender(mailSender, new SimpleMeterRegistry(), 1, 100);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pooledMailSender.closeAll();
+        smtpServer.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void connectionPerMessage() throws Exception {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            mailSender.send(emailService.createVerificationEmail("user" + i + "@smooth.com", "12345"));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<Boolean> pooledBatch() throws Exception {
+        List<MimeMessage> messages = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            messages.add(emailService.createVerificationEmail("user" + i + "@smooth.com", "12345"));
+        }
+        return pooledMailSender.send(messages);
+    }
+}
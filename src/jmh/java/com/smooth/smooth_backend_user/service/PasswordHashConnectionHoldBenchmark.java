@@ -0,0 +1,143 @@
+package com.smooth.smooth_backend_user.service;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 로그인/비밀번호 변경 부하 시 커넥션 풀 대기: BCrypt 를 트랜잭션 안에서 vs 밖에서
+// - 풀 크기는 application.yml 과 같은 10, 동시 요청 32
+// - op 지연시간(SampleTime)에 풀 대기가 포함되고, 풀 대기 자체는 trial 종료 시
+//   hikaricp.connections.acquire (평균/최대) 로 출력
+// - H2 인메모리 DB, 조회/갱신은 UserRepository 와 같은 단건 쿼리
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Threads(32)
+public class PasswordHashConnectionHoldBenchmark {
+
+    private static final int POOL_SIZE = 10;
+    private static final int USER_COUNT = 1000;
+    private static final String PASSWORD = "benchmark-password";
+
+    private SimpleMeterRegistry meterRegistry;
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private BCryptPasswordEncoder passwordEncoder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:connection-hold;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setPassword("");
+        config.setMaximumPoolSize(POOL_SIZE);
+        config.setMinimumIdle(POOL_SIZE);
+        config.setPoolName("benchmark");
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        dataSource = new HikariDataSource(config);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        passwordEncoder = new BCryptPasswordEncoder(10);
+
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+        jdbcTemplate.execute("drop table if exists users");
+        jdbcTemplate.execute("create table users (id bigint primary key, email varchar(255) unique, " +
+                "password varchar(255), updated_at timestamp)");
+        for (long id = 0; id < USER_COUNT; id++) {
+            jdbcTemplate.update("insert into users (id, email, password) values (?, ?, ?)",
+                    id, "user" + id + "@smooth.com", encodedPassword);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").timer();
+        if (acquire != null) {
+            System.out.printf("%n[pool] acquire count=%d mean=%.3fms max=%.3fms%n",
+                    acquire.count(),
+                    acquire.mean(TimeUnit.MILLISECONDS),
+                    acquire.max(TimeUnit.MILLISECONDS));
+        }
+        dataSource.close();
+    }
+
+    // 기존 로그인: 클래스 단위 @Transactional -> 조회 + matches 동안 커넥션 점유
+    @Benchmark
+    public boolean loginHashInsideTransaction() {
+        String email = nextEmail();
+        return Boolean.TRUE.equals(transactionTemplate.execute(status ->
+                passwordEncoder.matches(PASSWORD, findPasswordByEmail(email))));
+    }
+
+    // 변경 후 로그인: 조회 트랜잭션 종료(커넥션 반환) 후 matches
+    @Benchmark
+    public boolean loginHashOutsideTransaction() {
+        String email = nextEmail();
+        String encodedPassword = transactionTemplate.execute(status -> findPasswordByEmail(email));
+        return passwordEncoder.matches(PASSWORD, encodedPassword);
+    }
+
+    // 기존 비밀번호 변경: 조회 + matches + encode + UPDATE 가 한 트랜잭션
+    @Benchmark
+    public int changePasswordHashInsideTransaction() {
+        long id = nextId();
+        Integer updated = transactionTemplate.execute(status -> {
+            String current = findPasswordById(id);
+            if (!passwordEncoder.matches(PASSWORD, current)) {
+                throw new IllegalStateException("password mismatch");
+            }
+            return updatePassword(id, passwordEncoder.encode(PASSWORD));
+        });
+        return updated != null ? updated : 0;
+    }
+
+    // 변경 후 비밀번호 변경: 조회/UPDATE 만 각각 짧은 트랜잭션, 해싱은 그 사이 커넥션 없이 수행
+    @Benchmark
+    public int changePasswordHashOutsideTransaction() {
+        long id = nextId();
+        String current = transactionTemplate.execute(status -> findPasswordById(id));
+        if (!passwordEncoder.matches(PASSWORD, current)) {
+            throw new IllegalStateException("password mismatch");
+        }
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+        Integer updated = transactionTemplate.execute(status -> updatePassword(id, encodedPassword));
+        return updated != null ? updated : 0;
+    }
+
+    private String findPasswordByEmail(String email) {
+        return jdbcTemplate.queryForObject("select password from users where email = ?", String.class, email);
+    }
+
+    private String findPasswordById(long id) {
+        return jdbcTemplate.queryForObject("select password from users where id = ?", String.class, id);
+    }
+
+    private int updatePassword(long id, String encodedPassword) {
+        return jdbcTemplate.update("update users set password = ?, updated_at = current_timestamp where id = ?",
+                encodedPassword, id);
+    }
+
+    private static long nextId() {
+        return ThreadLocalRandom.current().nextLong(USER_COUNT);
+    }
+
+    private static String nextEmail() {
+        return "user" + nextId() + "@smooth.com";
+    }
+}
@@ -0,0 +1,69 @@
+package com.smooth.smooth_backend_user.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+// 느린 Redis 에서 블랙리스트 조회 지연 분포
+// - unguarded: 응답이 올 때까지 대기 (지연 = Redis 지연)
+// - guarded: RedisGuard 읽기 예산(50ms) 초과 시 중단, 연속 초과 시 서킷 OPEN -> 로컬 fallback 즉시 응답
+// - 결과 확인: redis.fallback.hits / redis.circuit.state 는 teardown 시 출력
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 2, time = 5)
+public class RedisGuardBenchmark {
+
+    private static final String REVOCATION_ID = "q8Zr3xP1m0bS9vT2wY7nC4kD6fH5jL8aE1gR0uI3oQw";
+
+    @Param({"1000", "200000"})
+    public long latencyMicros;
+
+    private LatencyInjectingRedisServer server;
+    private LettuceConnectionFactory connectionFactory;
+    private AsyncRedisService asyncRedisService;
+    private SimpleMeterRegistry meterRegistry;
+    private RedisGuard redisGuard;
+
+    @Setup
+    public void setUp() throws Exception {
+        server = new LatencyInjectingRedisServer(latencyMicros);
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", server.getPort()));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        asyncRedisService = new AsyncRedisService(new ReactiveStringRedisTemplate(connectionFactory));
+        meterRegistry = new SimpleMeterRegistry();
+        redisGuard = new RedisGuard(meterRegistry, 5, 5000, 50, 200, 16, 256);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        System.out.printf("%n[redis-guard] latencyMicros=%d state=%s fallbackHits=%.0f budgetExceeded=%.0f%n",
+                latencyMicros,
+                redisGuard.getState(),
+                meterRegistry.find("redis.fallback.hits").counters().stream().mapToDouble(c -> c.count()).sum(),
+                meterRegistry.find("redis.budget.exceeded").counters().stream().mapToDouble(c -> c.count()).sum());
+        redisGuard.shutdown();
+        connectionFactory.destroy();
+        server.close();
+    }
+
+    @Benchmark
+    public Boolean unguarded() {
+        return asyncRedisService.isTokenBlacklisted(REVOCATION_ID).block();
+    }
+
+    @Benchmark
+    public Boolean guarded() {
+        return redisGuard.read("blacklist.read", asyncRedisService.isTokenBlacklisted(REVOCATION_ID), () -> false)
+                .block();
+    }
+}
@@ -1,7 +1,6 @@
 package com.smooth.smooth_backend_user.config;
 
-import com.smooth.smooth_backend_user.controller.AuthController;
-import com.smooth.smooth_backend_user.service.RedisService;
+import com.smooth.smooth_backend_user.service.TokenBlacklistService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,8 +20,11 @@ import java.util.ArrayList;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
-    private final RedisService redisService;
+    // 컨트롤러에서 재파싱 없이 사용할 수 있도록 검증된 토큰을 request attribute로 전달
+    public static final String VERIFIED_TOKEN_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".VERIFIED_TOKEN";
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenBlacklistService tokenBlacklistService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -31,19 +33,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = getTokenFromRequest(request);
 
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
+        if (StringUtils.hasText(token)) {
+            // 검증 캐시 조회, 없으면 서명 검증 + 클레임 추출을 한 번에 처리
+            VerifiedToken verifiedToken = verifiedTokenCache.verify(token).orElse(null);
 
-            //redis 기반 블랙리스트 확인
-            if(!redisService.isTokenBlacklisted(token)) {
-                Long userId = jwtTokenProvider.getUserId(token);
-                String email = jwtTokenProvider.getEmail(token);
+            if (verifiedToken != null) {
+                request.setAttribute(VERIFIED_TOKEN_ATTRIBUTE, verifiedToken);
 
-                // Spring Security에 인증 정보 설정, String으로 변경
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(userId.toString(), null, new ArrayList<>());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                //폐기 여부 확인 (사용자 폐기 기준 시각 + 블랙리스트, 로컬 near-cache -> redis)
+                if (!tokenBlacklistService.isRevoked(verifiedToken)) {
+                    // Spring Security에 인증 정보 설정, String으로 변경
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(verifiedToken.getUserId().toString(), null, new ArrayList<>());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
             }
         }
 
@@ -57,4 +62,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         return null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,96 @@
+package com.smooth.smooth_backend_user.config;
+
+import com.smooth.smooth_backend_user.global.util.TokenDigests;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// JWT 서명 키 목록 (kid -> 키, 생성 후 불변)
+// - 서명: 현재 키 + kid 헤더
+// - 검증: kid로 키 선택
+//   next(다음) 키: 서명에는 쓰지 않고 검증만 허용 -> 롤링 배포 중 먼저 교체된 노드가 발급한 토큰도 통과
+//   retired(교체된) 키: 만료 전까지 검증 허용
+// - kid 없는 토큰(키 링 도입 전 발급)은 현재 키 -> 교체된 키 순으로 검증 (getLegacyFallbackKeys)
+//
+// 무중단 교체 순서
+// 1) 모든 노드: next-secrets=새 시크릿 배포 (검증만 허용)
+// 2) 모든 노드: secret=새 시크릿, retired-secrets=이전 시크릿, next-secrets 비움
+// 3) 토큰 최대 유효기간 경과 후 retired-secrets 에서 이전 시크릿 제거
+public class JwtKeyRing extends SigningKeyResolverAdapter {
+
+    private static final int KEY_ID_LENGTH = 11; // sha256 base64url 앞 64bit
+
+    private final String currentKeyId;
+    private final SecretKey currentKey;
+    private final Map<String, SecretKey> verificationKeys;
+    private final List<SecretKey> legacyFallbackKeys;
+
+    public JwtKeyRing(String currentSecret, List<String> retiredSecrets) {
+        this(currentSecret, List.of(), retiredSecrets);
+    }
+
+    public JwtKeyRing(String currentSecret, List<String> nextSecrets, List<String> retiredSecrets) {
+        this.currentKeyId = keyId(currentSecret);
+        this.currentKey = Keys.hmacShaKeyFor(currentSecret.getBytes());
+
+        Map<String, SecretKey> keys = new LinkedHashMap<>();
+        keys.put(currentKeyId, currentKey);
+        for (String nextSecret : nextSecrets) {
+            if (!nextSecret.isBlank()) {
+                keys.putIfAbsent(keyId(nextSecret), Keys.hmacShaKeyFor(nextSecret.getBytes()));
+            }
+        }
+
+        List<SecretKey> fallbackKeys = new ArrayList<>();
+        for (String retiredSecret : retiredSecrets) {
+            if (!retiredSecret.isBlank() && !keys.containsKey(keyId(retiredSecret))) {
+                SecretKey retiredKey = Keys.hmacShaKeyFor(retiredSecret.getBytes());
+                keys.put(keyId(retiredSecret), retiredKey);
+                fallbackKeys.add(retiredKey);
+            }
+        }
+        this.verificationKeys = Map.copyOf(keys);
+        this.legacyFallbackKeys = List.copyOf(fallbackKeys);
+    }
+
+    public String getCurrentKeyId() {
+        return currentKeyId;
+    }
+
+    public SecretKey getCurrentKey() {
+        return currentKey;
+    }
+
+    // kid 없는 토큰이 현재 키로 검증되지 않을 때 시도할 교체된 키
+    public List<SecretKey> getLegacyFallbackKeys() {
+        return legacyFallbackKeys;
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        String keyId = header.getKeyId();
+        if (keyId == null) {
+            return currentKey;
+        }
+
+        SecretKey key = verificationKeys.get(keyId);
+        if (key == null) {
+            throw new UnsupportedJwtException("알 수 없는 서명 키입니다: " + keyId);
+        }
+        return key;
+    }
+
+    // 시크릿에서 kid 도출 (설정 실수로 kid/시크릿이 어긋나는 것을 방지)
+    private static String keyId(String secret) {
+        return TokenDigests.sha256(secret).substring(0, KEY_ID_LENGTH);
+    }
+}
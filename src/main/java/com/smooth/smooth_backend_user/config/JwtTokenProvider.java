@@ -1,23 +1,54 @@
 package com.smooth.smooth_backend_user.config;
 
+import com.smooth.smooth_backend_user.global.util.TokenDigests;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.security.Key;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
 
-    private final SecretKey secretKey;
+    // 토큰 용도 구분 (다른 용도의 토큰을 액세스 토큰으로 사용 불가)
+    private static final String TOKEN_TYPE_CLAIM = "typ";
+    private static final String ACCESS_TOKEN_TYPE = "access";
+    private static final String REGISTRATION_TICKET_TYPE = "registration";
+    private static final long DEFAULT_REGISTRATION_TICKET_VALIDITY = 30 * 60 * 1000L;
+
+    private final JwtKeyRing keyRing;
     private final long validityInMilliseconds;
+    private final long registrationTicketValidityInMilliseconds;
+    private final JwtParser jwtParser; // 불변, thread-safe -> 생성 시 1회만 빌드
+    private final List<JwtParser> legacyParsers; // kid 없는 토큰용, 교체된 키별 1개
 
+    @Autowired
     public JwtTokenProvider(@Value("${jwt.secret}") String secret,
-                            @Value("${jwt.expiration}") long validityInMilliseconds) {
-        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+                            @Value("${jwt.next-secrets:}") List<String> nextSecrets,
+                            @Value("${jwt.retired-secrets:}") List<String> retiredSecrets,
+                            @Value("${jwt.expiration}") long validityInMilliseconds,
+                            @Value("${jwt.registration-ticket-expiration:1800000}") long registrationTicketValidityInMilliseconds) {
+        this.keyRing = new JwtKeyRing(secret, nextSecrets, retiredSecrets);
         this.validityInMilliseconds = validityInMilliseconds;
+        this.registrationTicketValidityInMilliseconds = registrationTicketValidityInMilliseconds;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(keyRing)
+                .build();
+        this.legacyParsers = keyRing.getLegacyFallbackKeys().stream()
+                .map(key -> Jwts.parserBuilder()
+                        .setSigningKeyResolver(new KidlessKeyResolver(key))
+                        .build())
+                .toList();
+    }
+
+    public JwtTokenProvider(String secret, long validityInMilliseconds) {
+        this(secret, List.of(), List.of(), validityInMilliseconds, DEFAULT_REGISTRATION_TICKET_VALIDITY);
     }
 
     // JWT 토큰 생성
@@ -26,43 +57,79 @@ public class JwtTokenProvider {
         Date validity = new Date(now.getTime() + validityInMilliseconds);
 
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyRing.getCurrentKeyId())
+                .setId(UUID.randomUUID().toString())
                 .setSubject(userId.toString())
+                .claim(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE)
                 .claim("email", email)
                 .setIssuedAt(now)
                 .setExpiration(validity)
-                .signWith(secretKey, SignatureAlgorithm.HS256)
+                .signWith(keyRing.getCurrentKey(), SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    // 회원가입 티켓 생성 (이메일 인증 완료 증명, 서버 상태 없이 서명으로 검증)
+    public String createRegistrationTicket(String email) {
+        Date now = new Date();
+        Date validity = new Date(now.getTime() + registrationTicketValidityInMilliseconds);
+
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyRing.getCurrentKeyId())
+                .setSubject(email)
+                .claim(TOKEN_TYPE_CLAIM, REGISTRATION_TICKET_TYPE)
+                .setIssuedAt(now)
+                .setExpiration(validity)
+                .signWith(keyRing.getCurrentKey(), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    // 회원가입 티켓 검증 -> 인증된 이메일
+    public Optional<String> verifyRegistrationTicket(String ticket) {
+        try {
+            Claims claims = parseJws(ticket);
+            if (!REGISTRATION_TICKET_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) {
+                return Optional.empty();
+            }
+            return Optional.ofNullable(claims.getSubject());
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    // JWT 토큰 서명 검증 + 클레임 추출 (1회 파싱)
+    public Optional<VerifiedToken> verifyToken(String token) {
+        try {
+            Claims claims = parseClaims(token);
+            Date issuedAt = claims.getIssuedAt();
+            String jti = claims.getId();
+
+            return Optional.of(new VerifiedToken(
+                    TokenDigests.sha256(jti != null ? jti : token),
+                    Long.valueOf(claims.getSubject()),
+                    claims.get("email", String.class),
+                    issuedAt != null ? issuedAt.getTime() : 0L,
+                    claims.getExpiration().getTime(),
+                    jti != null ? null : token
+            ));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     // JWT 토큰에서 사용자 ID 추출
     public Long getUserId(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return Long.valueOf(claims.getSubject());
+        return Long.valueOf(parseClaims(token).getSubject());
     }
 
     // JWT 토큰에서 이메일 추출
     public String getEmail(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return claims.get("email", String.class);
+        return parseClaims(token).get("email", String.class);
     }
 
     // JWT 토큰 유효성 검증
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
+            parseClaims(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
@@ -71,12 +138,50 @@ public class JwtTokenProvider {
 
     // 토큰 만료 시간
     public long getExpirationTime(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parseClaims(token).getExpiration().getTime();
+    }
+
+    // 액세스 토큰만 허용 (typ 클레임이 없는 기존 토큰은 액세스 토큰으로 간주)
+    private Claims parseClaims(String token) {
+        Claims claims = parseJws(token);
+        String type = claims.get(TOKEN_TYPE_CLAIM, String.class);
+        if (type != null && !ACCESS_TOKEN_TYPE.equals(type)) {
+            throw new UnsupportedJwtException("액세스 토큰이 아닙니다: " + type);
+        }
+        return claims;
+    }
 
-        return claims.getExpiration().getTime();
+    // 서명 검증 실패 시 kid 없는 토큰에 한해 교체된 키로 재시도
+    // (kid 있는 토큰은 KidlessKeyResolver 가 거부 -> 원래 예외 유지)
+    private Claims parseJws(String token) {
+        try {
+            return jwtParser.parseClaimsJws(token).getBody();
+        } catch (io.jsonwebtoken.security.SignatureException e) {
+            for (JwtParser legacyParser : legacyParsers) {
+                try {
+                    return legacyParser.parseClaimsJws(token).getBody();
+                } catch (JwtException ignored) {
+                    // 다음 교체된 키로 시도
+                }
+            }
+            throw e;
+        }
+    }
+
+    private static class KidlessKeyResolver extends SigningKeyResolverAdapter {
+
+        private final SecretKey key;
+
+        private KidlessKeyResolver(SecretKey key) {
+            this.key = key;
+        }
+
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            if (header.getKeyId() != null) {
+                throw new UnsupportedJwtException("kid 가 있는 토큰은 키 링으로만 검증합니다");
+            }
+            return key;
+        }
     }
-}
\ No newline at end of file
+}
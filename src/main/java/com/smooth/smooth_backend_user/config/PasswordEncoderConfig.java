@@ -0,0 +1,112 @@
+package com.smooth.smooth_backend_user.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 비밀번호 인코더 설정
+// - {id} 접두어 기반 위임 인코더: 알고리즘/비용 변경 후에도 기존 해시 검증 가능
+// - 접두어 없는 기존 BCrypt 해시는 bcrypt로 검증 후 로그인 시 재해싱
+// - PBKDF2 는 해시에 반복 횟수가 없어 id 에 포함 ({pbkdf2@310000})
+//   반복 횟수 변경 시 이전 값은 pbkdf2-previous-iterations 에 남겨 검증, 로그인 시 현재 값으로 재해싱
+// - calibrate=true 이면 기동 시 목표 지연시간에 맞춰 BCrypt 비용을 상향 조정
+//   (PBKDF2 는 노드/재시작마다 값이 달라져 기존 해시를 검증할 수 없으므로 미지원)
+@Slf4j
+@Configuration
+public class PasswordEncoderConfig {
+
+    private static final String BCRYPT = "bcrypt";
+    private static final String PBKDF2 = "pbkdf2";
+    private static final String PBKDF2_ID_SEPARATOR = "@";
+    private static final int MAX_BCRYPT_STRENGTH = 31;
+    private static final int CALIBRATION_ROUNDS = 3;
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    @Value("${password.encoder.algorithm:bcrypt}")
+    private String algorithm;
+
+    @Value("${password.encoder.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    @Value("${password.encoder.pbkdf2-iterations:310000}")
+    private int pbkdf2Iterations;
+
+    // 이전에 사용한 반복 횟수 ({pbkdf2@N} 해시 검증용, 쉼표 구분)
+    @Value("${password.encoder.pbkdf2-previous-iterations:}")
+    private List<Integer> pbkdf2PreviousIterations;
+
+    // 반복 횟수 없이 저장된 기존 {pbkdf2} 해시의 반복 횟수
+    @Value("${password.encoder.pbkdf2-legacy-iterations:310000}")
+    private int pbkdf2LegacyIterations;
+
+    @Value("${password.encoder.calibrate:false}")
+    private boolean calibrate;
+
+    @Value("${password.encoder.target-millis:100}")
+    private long targetMillis;
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        if (!BCRYPT.equals(algorithm) && !PBKDF2.equals(algorithm)) {
+            throw new IllegalStateException("지원하지 않는 비밀번호 알고리즘입니다: " + algorithm);
+        }
+
+        if (calibrate && PBKDF2.equals(algorithm)) {
+            throw new IllegalStateException("pbkdf2 는 calibrate 를 지원하지 않습니다 (pbkdf2-iterations 를 고정값으로 설정)");
+        }
+
+        int strength = calibrate ? calibrateBcryptStrength() : bcryptStrength;
+        log.info("비밀번호 인코더: {} (bcrypt strength {}, pbkdf2 iterations {})", algorithm, strength, pbkdf2Iterations);
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, new BCryptPasswordEncoder(strength));
+        encoders.put(PBKDF2, pbkdf2(pbkdf2LegacyIterations));
+        for (int iterations : pbkdf2PreviousIterations) {
+            encoders.put(pbkdf2Id(iterations), pbkdf2(iterations));
+        }
+        encoders.put(pbkdf2Id(pbkdf2Iterations), pbkdf2(pbkdf2Iterations));
+
+        String idForEncode = BCRYPT.equals(algorithm) ? BCRYPT : pbkdf2Id(pbkdf2Iterations);
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(idForEncode, encoders);
+        passwordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder(strength));
+        return passwordEncoder;
+    }
+
+    // 목표 지연시간 이내인 최대 BCrypt 비용 (설정값 미만으로는 내리지 않음)
+    private int calibrateBcryptStrength() {
+        int strength = bcryptStrength;
+        while (strength < MAX_BCRYPT_STRENGTH
+                && measureMillis(new BCryptPasswordEncoder(strength + 1)) <= targetMillis) {
+            strength++;
+        }
+        return strength;
+    }
+
+    private double measureMillis(PasswordEncoder encoder) {
+        encoder.encode(CALIBRATION_PASSWORD); // warm-up
+
+        long start = System.nanoTime();
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            encoder.encode(CALIBRATION_PASSWORD);
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / CALIBRATION_ROUNDS;
+    }
+
+    private static String pbkdf2Id(int iterations) {
+        return PBKDF2 + PBKDF2_ID_SEPARATOR + iterations;
+    }
+
+    private static PasswordEncoder pbkdf2(int iterations) {
+        return new Pbkdf2PasswordEncoder("", 16, iterations,
+                Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+    }
+}
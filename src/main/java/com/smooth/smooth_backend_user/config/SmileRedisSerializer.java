@@ -0,0 +1,57 @@
+package com.smooth.smooth_backend_user.config;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+
+// 객체 값 전용 바이너리 직렬화 (Jackson Smile)
+// - JSON과 같은 데이터 모델, 필드명 back-reference + 바이너리 숫자로 크기/파싱 비용 절감
+// - 타입 정보는 애플리케이션 패키지와 java.* 타입만 허용
+public class SmileRedisSerializer implements RedisSerializer<Object> {
+
+    private final ObjectMapper objectMapper;
+
+    public SmileRedisSerializer() {
+        this.objectMapper = new ObjectMapper(new SmileFactory())
+                .findAndRegisterModules()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .activateDefaultTyping(
+                        BasicPolymorphicTypeValidator.builder()
+                                .allowIfSubType("com.smooth.smooth_backend_user.")
+                                .allowIfSubType("java.")
+                                .build(),
+                        ObjectMapper.DefaultTyping.NON_FINAL,
+                        JsonTypeInfo.As.PROPERTY
+                );
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Smile 직렬화 실패: " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(bytes, Object.class);
+        } catch (IOException e) {
+            throw new SerializationException("Smile 역직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.smooth.smooth_backend_user.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 서명 검증이 끝난 JWT 클레임 (토큰 1회 파싱 결과)
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+    private final String revocationId; // 블랙리스트 키 (jti digest, jti 없는 토큰은 토큰 digest)
+    private final Long userId;
+    private final String email;
+    private final long issuedAt;   // epoch millis
+    private final long expiration; // epoch millis
+    private final String legacyRevocationId; // jti 도입 전 발급 토큰의 기존 블랙리스트 키 (원문 토큰), jti 있으면 null
+
+    // 만료까지 남은 시간 (밀리초)
+    public long getRemainingMillis() {
+        return expiration - System.currentTimeMillis();
+    }
+}
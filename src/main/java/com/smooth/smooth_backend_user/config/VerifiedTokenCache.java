@@ -0,0 +1,68 @@
+package com.smooth.smooth_backend_user.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.smooth.smooth_backend_user.global.util.TokenDigests;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// 검증 완료된 JWT 캐시 (토큰 digest -> 클레임), 토큰 exp 시점에 만료
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(JwtTokenProvider jwtTokenProvider,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.cache.maximum-size:100000}") long maximumSize) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ExpireAtTokenExpiration())
+                .recordStats()
+                .build();
+
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified-token");
+    }
+
+    // 캐시 조회 후 없으면 서명 검증 (유효한 토큰만 캐싱)
+    public Optional<VerifiedToken> verify(String token) {
+        String digest = TokenDigests.sha256(token);
+
+        VerifiedToken cached = cache.getIfPresent(digest);
+        if (cached != null && cached.getRemainingMillis() > 0) {
+            return Optional.of(cached);
+        }
+
+        Optional<VerifiedToken> verified = jwtTokenProvider.verifyToken(token);
+        verified.ifPresent(verifiedToken -> cache.put(digest, verifiedToken));
+        return verified;
+    }
+
+    // 엔트리 수명 = 토큰 만료까지 남은 시간
+    private static class ExpireAtTokenExpiration implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.getRemainingMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
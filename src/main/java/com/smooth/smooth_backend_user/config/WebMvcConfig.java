@@ -0,0 +1,20 @@
+package com.smooth.smooth_backend_user.config;
+
+import com.smooth.smooth_backend_user.global.ratelimit.RateLimitInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final RateLimitInterceptor rateLimitInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // @RateLimited 컨트롤러 메서드 요청 제한
+        registry.addInterceptor(rateLimitInterceptor);
+    }
+}
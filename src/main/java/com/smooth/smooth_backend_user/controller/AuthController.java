@@ -1,8 +1,12 @@
 package com.smooth.smooth_backend_user.controller;
 
 
+import com.smooth.smooth_backend_user.config.JwtAuthenticationFilter;
 import com.smooth.smooth_backend_user.config.JwtTokenProvider;
+import com.smooth.smooth_backend_user.config.VerifiedToken;
 import com.smooth.smooth_backend_user.dto.request.LoginRequestDto;
+import com.smooth.smooth_backend_user.dto.request.LogoutRequestDto;
+import com.smooth.smooth_backend_user.dto.request.RefreshTokenRequestDto;
 import com.smooth.smooth_backend_user.dto.request.RegisterRequestDto;
 import com.smooth.smooth_backend_user.dto.request.SendVerificationRequestDto;
 import com.smooth.smooth_backend_user.dto.request.VerifyEmailRequestDto;
@@ -11,8 +15,12 @@ import com.smooth.smooth_backend_user.entity.User;
 import com.smooth.smooth_backend_user.exception.AuthErrorCode;
 import com.smooth.smooth_backend_user.global.common.ApiResponse;
 import com.smooth.smooth_backend_user.global.exception.BusinessException;
+import com.smooth.smooth_backend_user.global.ratelimit.RateLimited;
+import com.smooth.smooth_backend_user.global.util.EmailAddresses;
+import com.smooth.smooth_backend_user.repository.projection.UserCredentials;
 import com.smooth.smooth_backend_user.service.EmailVerificationService;
-import com.smooth.smooth_backend_user.service.RedisService;
+import com.smooth.smooth_backend_user.service.RefreshTokenService;
+import com.smooth.smooth_backend_user.service.TokenBlacklistService;
 import com.smooth.smooth_backend_user.service.UserService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +28,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
@@ -34,7 +43,8 @@ public class AuthController {
 
     private final UserService userService;
     private final JwtTokenProvider jwtTokenProvider;
-    private final RedisService redisService;
+    private final TokenBlacklistService tokenBlacklistService;
+    private final RefreshTokenService refreshTokenService;
     private final EmailVerificationService emailVerificationService;
 
     // Authorization 헤더에서 토큰 추출
@@ -46,9 +56,25 @@ public class AuthController {
         return null;
     }
 
+    // 필터에서 검증된 토큰 재사용 (없으면 헤더에서 1회 파싱)
+    private VerifiedToken getVerifiedToken(HttpServletRequest request) {
+        Object attribute = request.getAttribute(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTRIBUTE);
+        if (attribute instanceof VerifiedToken verifiedToken) {
+            return verifiedToken;
+        }
+
+        String token = getTokenFromRequest(request);
+        if (token == null) {
+            return null;
+        }
+        return jwtTokenProvider.verifyToken(token).orElse(null);
+    }
+
     // 토큰 블랙리스트 확인 (다른 클래스에서 사용)
     public boolean isTokenBlacklisted(String token) {
-        return redisService.isTokenBlacklisted(token);
+        return jwtTokenProvider.verifyToken(token)
+                .map(tokenBlacklistService::isRevoked)
+                .orElse(false);
     }
 
     @PostMapping("/send-verification")
@@ -71,7 +97,10 @@ public class AuthController {
             @Validated @RequestBody VerifyEmailRequestDto dto) {
 
         emailVerificationService.verifyCode(dto.getEmail(), dto.getCode());
-        VerifyEmailResponseDto response = VerifyEmailResponseDto.success(dto.getEmail());
+
+        // 회원가입 티켓 발급 (이메일 바인딩, 서명 검증만으로 확인)
+        String registrationTicket = jwtTokenProvider.createRegistrationTicket(EmailAddresses.normalize(dto.getEmail()));
+        VerifyEmailResponseDto response = VerifyEmailResponseDto.success(dto.getEmail(), registrationTicket);
 
         return ResponseEntity.ok(
                 ApiResponse.success("이메일 인증 완료", response)
@@ -79,6 +108,7 @@ public class AuthController {
     }
 
     @GetMapping("/check-email")
+    @RateLimited(name = "check_email", limit = 30, windowSeconds = 60, failMode = RateLimited.FailMode.OPEN)
     public ResponseEntity<ApiResponse<Map<String, Boolean>>> checkEmailDuplicate(@RequestParam String email) {
         boolean isDuplicate = userService.isEmailExists(email);
         Map<String, Boolean> response = new HashMap<>();
@@ -91,24 +121,33 @@ public class AuthController {
 
     @PostMapping("/register")
     public ResponseEntity<ApiResponse<RegisterResponseDto>> register(@Validated @RequestBody RegisterRequestDto dto) {
-        // 이메일 인증 완료 여부 확인
-        if (!emailVerificationService.isEmailVerified(dto.getEmail())) {
+        // 이메일 인증 완료 여부 확인 (회원가입 티켓 서명 + 이메일 일치)
+        // 티켓이 없으면 전환 기간에 한해 기존 방식(인증 완료 키)으로 확인
+        boolean legacyClient = !StringUtils.hasText(dto.getRegistrationTicket());
+        boolean verified = legacyClient
+                ? emailVerificationService.isLegacyVerified(dto.getEmail())
+                : jwtTokenProvider.verifyRegistrationTicket(dto.getRegistrationTicket())
+                        .map(email -> EmailAddresses.normalize(email).equals(EmailAddresses.normalize(dto.getEmail())))
+                        .orElse(false);
+        if (!verified) {
             throw new BusinessException(AuthErrorCode.EMAIL_NOT_VERIFIED);
         }
 
         // 회원가입 처리
         User user = userService.register(dto);
-
-        // 회원가입 완료 후 이메일 인증 상태 삭제
-        emailVerificationService.clearVerificationStatus(dto.getEmail());
+        if (legacyClient) {
+            emailVerificationService.clearLegacyVerification(dto.getEmail());
+        }
 
         // 회원가입 후 자동로그인 (JWT 토큰 생성)
         String token = jwtTokenProvider.createToken(user.getId(), user.getEmail());
+        String refreshToken = refreshTokenService.issue(user.getId(), user.getEmail());
 
         RegisterResponseDto response = RegisterResponseDto.success(
                 user.getId(),
                 user.getName(),
-                token
+                token,
+                refreshToken
         );
 
         return ResponseEntity.ok(
@@ -116,15 +155,20 @@ public class AuthController {
         );
     }
 
+    // IP 기준 + 계정(email) 기준, Redis 장애 시 허용 (비밀번호 해싱 풀이 처리량 상한)
     @PostMapping("/login")
+    @RateLimited(name = "login", limit = 10, windowSeconds = 60, keyBodyField = "email",
+            failMode = RateLimited.FailMode.OPEN)
     public ResponseEntity<ApiResponse<LoginResponseDto>> login(@Validated @RequestBody LoginRequestDto dto) {
-        User user = userService.login(dto);
-        String token = jwtTokenProvider.createToken(user.getId(), user.getEmail());
+        UserCredentials user = userService.login(dto);
+        String token = jwtTokenProvider.createToken(user.id(), user.email());
+        String refreshToken = refreshTokenService.issue(user.id(), user.email());
 
         LoginResponseDto response = LoginResponseDto.success(
-                user.getId(),
-                user.getName(),
-                token
+                user.id(),
+                user.name(),
+                token,
+                refreshToken
         );
 
         return ResponseEntity.ok(
@@ -132,19 +176,48 @@ public class AuthController {
         );
     }
 
+    // 액세스 토큰 재발급 (리프레시 토큰 회전, 비밀번호 검증 없음)
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<TokenRefreshResponseDto>> refresh(
+            @Validated @RequestBody RefreshTokenRequestDto dto) {
+
+        RefreshTokenService.RefreshTokenOwner owner = refreshTokenService.consume(dto.getRefreshToken());
+
+        // 탈퇴한 사용자의 리프레시 토큰 거부 (폐기 기준 시각 전파 실패 대비)
+        if (!userService.existsById(owner.userId())) {
+            throw new BusinessException(AuthErrorCode.INVALID_TOKEN);
+        }
+
+        String token = jwtTokenProvider.createToken(owner.userId(), owner.email());
+        String refreshToken = refreshTokenService.issue(owner.userId(), owner.email());
+
+        TokenRefreshResponseDto response = TokenRefreshResponseDto.success(
+                owner.userId(),
+                token,
+                refreshToken
+        );
+
+        return ResponseEntity.ok(
+                ApiResponse.success("토큰 재발급 성공", response)
+        );
+    }
+
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<Void>> logout(HttpServletRequest request) {
-        // Authorization 헤더에서 토큰 추출
-        String token = getTokenFromRequest(request);
+    public ResponseEntity<ApiResponse<Void>> logout(HttpServletRequest request,
+                                                    @RequestBody(required = false) LogoutRequestDto dto) {
+        // Authorization 헤더의 검증된 토큰
+        VerifiedToken verifiedToken = getVerifiedToken(request);
 
-        if (token == null || !jwtTokenProvider.validateToken(token)) {
+        if (verifiedToken == null) {
             throw new BusinessException(AuthErrorCode.INVALID_TOKEN);
         }
 
-        // JWT 만료시간까지 Redis에 블랙리스트 저장
-        long remainingTime = jwtTokenProvider.getExpirationTime(token) - System.currentTimeMillis();
-        if (remainingTime > 0) {
-            redisService.addToBlacklist(token, remainingTime / 1000);
+        // JWT 만료시간까지 Redis에 블랙리스트 저장 (다른 노드에도 전파)
+        tokenBlacklistService.blacklist(verifiedToken);
+
+        // 리프레시 토큰도 함께 폐기
+        if (dto != null && dto.getRefreshToken() != null) {
+            refreshTokenService.revoke(dto.getRefreshToken());
         }
 
         return ResponseEntity.ok(
@@ -158,17 +231,9 @@ public class AuthController {
         String userIdStr = (String) auth.getPrincipal();
         Long userId = Long.valueOf(userIdStr);
 
+        // 탈퇴 + 사용자가 보유한 모든 토큰 폐기
         userService.deleteAccount(userId);
 
-        // 현재 토큰을 블랙리스트에 추가
-        String token = getTokenFromRequest(request);
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            long remainingTime = jwtTokenProvider.getExpirationTime(token) - System.currentTimeMillis();
-            if (remainingTime > 0) {
-                redisService.addToBlacklist(token, remainingTime / 1000);
-            }
-        }
-
         return ResponseEntity.ok(
                 ApiResponse.success("회원탈퇴가 완료되었습니다.")
         );
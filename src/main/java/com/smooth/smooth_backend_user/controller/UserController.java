@@ -3,7 +3,6 @@ package com.smooth.smooth_backend_user.controller;
 import com.smooth.smooth_backend_user.dto.request.ChangePasswordRequestDto;
 import com.smooth.smooth_backend_user.dto.request.UpdateEmergencyInfoRequestDto;
 import com.smooth.smooth_backend_user.dto.response.UserProfileResponseDto;
-import com.smooth.smooth_backend_user.entity.User;
 import com.smooth.smooth_backend_user.global.common.ApiResponse;
 import com.smooth.smooth_backend_user.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -31,8 +30,7 @@ public class UserController {
     @GetMapping("/profile")
     public ResponseEntity<ApiResponse<UserProfileResponseDto>> getUserProfile() {
         Long userId = getCurrentUserId();
-        User user = userService.findById(userId);
-        UserProfileResponseDto response = UserProfileResponseDto.fromUser(user);
+        UserProfileResponseDto response = userService.getProfile(userId);
 
         return ResponseEntity.ok(
                 ApiResponse.success("회원 정보 조회 성공", response)
@@ -58,8 +56,7 @@ public class UserController {
             @Validated @RequestBody UpdateEmergencyInfoRequestDto dto) {
 
         Long userId = getCurrentUserId();
-        User updatedUser = userService.updateEmergencyInfo(userId, dto);
-        UserProfileResponseDto response = UserProfileResponseDto.fromUser(updatedUser);
+        UserProfileResponseDto response = userService.updateEmergencyInfo(userId, dto);
 
         return ResponseEntity.ok(
                 ApiResponse.success("응급정보가 성공적으로 수정되었습니다.", response)
@@ -70,13 +67,13 @@ public class UserController {
     @GetMapping("/me")
     public ResponseEntity<ApiResponse<UserSimpleInfoDto>> getMyInfo() {
         Long userId = getCurrentUserId();
-        User user = userService.findById(userId);
+        UserProfileResponseDto profile = userService.getProfile(userId);
 
         UserSimpleInfoDto info = UserSimpleInfoDto.builder()
-                .id(user.getId())
-                .name(user.getName())
-                .email(user.getEmail())
-                .phone(user.getPhone())
+                .id(profile.getId())
+                .name(profile.getName())
+                .email(profile.getEmail())
+                .phone(profile.getPhone())
                 .build();
 
         return ResponseEntity.ok(
@@ -0,0 +1,11 @@
+package com.smooth.smooth_backend_user.dto.request;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class LogoutRequestDto {
+
+    private String refreshToken; // 선택사항 (함께 폐기)
+}
@@ -11,6 +11,9 @@ public class RegisterRequestDto {
     @Email(message = "이메일 형식이 올바르지 않습니다.")
     private String email;
 
+    // 이메일 인증 완료 시 발급, auth.registration-ticket.required=true 전까지는 생략 가능 (기존 클라이언트)
+    private String registrationTicket;
+
     @NotBlank(message = "비밀번호를 입력해주세요.")
     @Size(min = 8, message = "비밀번호는 8자 이상이어야 합니다.")
     private String password;
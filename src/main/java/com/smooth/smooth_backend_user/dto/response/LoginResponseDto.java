@@ -13,14 +13,16 @@ public class LoginResponseDto extends CommonResponseDto {
     private Long userId;
     private String name;
     private String token;
+    private String refreshToken;
 
-    public static LoginResponseDto success(Long userId, String name, String token) {
+    public static LoginResponseDto success(Long userId, String name, String token, String refreshToken) {
         LoginResponseDto response = new LoginResponseDto();
         response.setSuccess(true);
         response.setMessage("로그인 성공");
         response.setUserId(userId);
         response.setName(name);
         response.setToken(token);
+        response.setRefreshToken(refreshToken);
         return response;
     }
 
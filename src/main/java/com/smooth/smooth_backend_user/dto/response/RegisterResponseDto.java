@@ -13,14 +13,16 @@ public class RegisterResponseDto extends CommonResponseDto {
     private Long userId;
     private String name;
     private String token;
+    private String refreshToken;
 
-    public static RegisterResponseDto success(Long userId, String name, String token) {
+    public static RegisterResponseDto success(Long userId, String name, String token, String refreshToken) {
         RegisterResponseDto response = new RegisterResponseDto();
         response.setSuccess(true);
         response.setMessage("회원가입이 완료되었습니다.");
         response.setUserId(userId);
         response.setName(name);
         response.setToken(token);
+        response.setRefreshToken(refreshToken);
         return response;
     }
 
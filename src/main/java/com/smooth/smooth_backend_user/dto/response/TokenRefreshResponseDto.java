@@ -0,0 +1,26 @@
+package com.smooth.smooth_backend_user.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class TokenRefreshResponseDto extends CommonResponseDto {
+    private Long userId;
+    private String token;
+    private String refreshToken;
+
+    public static TokenRefreshResponseDto success(Long userId, String token, String refreshToken) {
+        TokenRefreshResponseDto response = new TokenRefreshResponseDto();
+        response.setSuccess(true);
+        response.setMessage("토큰 재발급 성공");
+        response.setUserId(userId);
+        response.setToken(token);
+        response.setRefreshToken(refreshToken);
+        return response;
+    }
+}
@@ -10,13 +10,15 @@ public class VerifyEmailResponseDto {
     private String message;
     private String email;
     private boolean verified;
+    private String registrationTicket; // 회원가입 요청 시 전달 (이메일 인증 증명)
 
-    public static VerifyEmailResponseDto success(String email) {
+    public static VerifyEmailResponseDto success(String email, String registrationTicket) {
         VerifyEmailResponseDto dto = new VerifyEmailResponseDto();
         dto.success = true;
         dto.message = "이메일 인증이 완료되었습니다.";
         dto.email = email;
         dto.verified = true;
+        dto.registrationTicket = registrationTicket;
         return dto;
     }
 
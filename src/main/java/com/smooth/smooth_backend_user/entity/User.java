@@ -5,12 +5,14 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "users")
+@DynamicUpdate // 엔티티 저장 시 변경된 컬럼만 UPDATE
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -64,10 +66,6 @@ public class User {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
-
-    @OneToOne(fetch = FetchType.LAZY, mappedBy = "user", optional = true)
-    private UserVehicle userVehicle;
-
     public enum Gender {
         MALE, FEMALE
     }
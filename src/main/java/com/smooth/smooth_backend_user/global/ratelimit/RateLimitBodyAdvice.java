@@ -0,0 +1,50 @@
+package com.smooth.smooth_backend_user.global.ratelimit;
+
+import com.smooth.smooth_backend_user.global.util.EmailAddresses;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+
+// @RateLimited(keyBodyField) 처리: JSON 본문 필드 값 기준 제한
+// - 인터셉터 시점에는 본문을 읽을 수 없으므로 역직렬화 직후 (검증/컨트롤러 실행 전) 적용
+// - IP 기준 제한(RateLimitInterceptor)과 별도로 적용 -> IP 를 바꿔가며 같은 계정을 시도하는 경우 차단
+@ControllerAdvice
+@RequiredArgsConstructor
+public class RateLimitBodyAdvice extends RequestBodyAdviceAdapter {
+
+    private final RateLimitInterceptor rateLimitInterceptor;
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        RateLimited rateLimited = methodParameter.getMethodAnnotation(RateLimited.class);
+        return rateLimited != null && StringUtils.hasText(rateLimited.keyBodyField());
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter,
+                                Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        RateLimited rateLimited = parameter.getMethodAnnotation(RateLimited.class);
+        Object value = PropertyAccessorFactory.forBeanPropertyAccess(body).getPropertyValue(rateLimited.keyBodyField());
+        if (value instanceof String subject && StringUtils.hasText(subject)) {
+            rateLimitInterceptor.enforce(rateLimited, EmailAddresses.normalize(subject), currentResponse());
+        }
+        return body;
+    }
+
+    private static HttpServletResponse currentResponse() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getResponse()
+                : null;
+    }
+}
@@ -0,0 +1,63 @@
+package com.smooth.smooth_backend_user.global.ratelimit;
+
+import com.smooth.smooth_backend_user.global.exception.BusinessException;
+import com.smooth.smooth_backend_user.global.exception.CommonErrorCode;
+import com.smooth.smooth_backend_user.global.util.EmailAddresses;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimiter rateLimiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+
+        RateLimited rateLimited = handlerMethod.getMethodAnnotation(RateLimited.class);
+        if (rateLimited == null) {
+            return true;
+        }
+
+        // 프록시 뒤에서는 forward-headers-strategy 가 X-Forwarded-For 를 반영한 클라이언트 주소
+        String subject = request.getRemoteAddr();
+        if (StringUtils.hasText(rateLimited.keyParam())) {
+            String value = request.getParameter(rateLimited.keyParam());
+            if (StringUtils.hasText(value)) {
+                subject = EmailAddresses.normalize(value);
+            }
+        }
+
+        enforce(rateLimited, subject, response);
+        return true;
+    }
+
+    // 제한 초과 시 Retry-After 설정 후 429 (본문 필드 기준 제한에서도 사용)
+    void enforce(RateLimited rateLimited, String subject, HttpServletResponse response) {
+        RateLimitResult result = rateLimiter.tryAcquire(
+                rateLimited.name() + ":" + subject,
+                rateLimited.limit(),
+                Duration.ofSeconds(rateLimited.windowSeconds()),
+                rateLimited.failMode()
+        );
+
+        if (!result.allowed()) {
+            if (response != null) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(result.retryAfterSeconds()));
+            }
+            throw new BusinessException(CommonErrorCode.TOO_MANY_REQUESTS);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.smooth.smooth_backend_user.global.ratelimit;
+
+public record RateLimitResult(boolean allowed, long retryAfterMillis) {
+
+    public static RateLimitResult allowed() {
+        return new RateLimitResult(true, 0);
+    }
+
+    public static RateLimitResult denied(long retryAfterMillis) {
+        return new RateLimitResult(false, retryAfterMillis);
+    }
+
+    public long retryAfterSeconds() {
+        return (retryAfterMillis + 999) / 1000;
+    }
+}
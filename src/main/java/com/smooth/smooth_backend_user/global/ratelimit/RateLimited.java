@@ -0,0 +1,37 @@
+package com.smooth.smooth_backend_user.global.ratelimit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 컨트롤러 메서드 rate limit
+// - 기본 키: 클라이언트 IP (server.forward-headers-strategy 로 프록시 헤더를 반영한 주소), keyParam 지정 시 해당 요청 파라미터 값
+// - keyBodyField 지정 시 IP 기준 제한에 더해 JSON 본문 필드 값 기준으로도 같은 한도 적용 (RateLimitBodyAdvice)
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+
+    // 제한 구분 이름 (Redis 키에 포함)
+    String name();
+
+    // 윈도우 내 최대 허용 횟수
+    int limit();
+
+    // 윈도우 (초)
+    long windowSeconds();
+
+    // Redis 지연/장애(RedisGuard fallback) 시 동작 (엔드포인트마다 명시)
+    FailMode failMode();
+
+    // 요청 파라미터 기준 제한 (비어 있으면 IP 기준)
+    String keyParam() default "";
+
+    // 요청 본문 필드 기준 추가 제한 (예: 로그인 email)
+    String keyBodyField() default "";
+
+    enum FailMode {
+        OPEN,   // 제한 없이 허용
+        CLOSED  // 윈도우만큼 거부
+    }
+}
@@ -0,0 +1,61 @@
+package com.smooth.smooth_backend_user.global.ratelimit;
+
+import com.smooth.smooth_backend_user.service.RedisGuard;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Redis Lua 기반 슬라이딩 윈도우 rate limiter (확인 + 기록을 1회 왕복으로 원자 처리)
+// - RedisGuard 경유: 지연 예산 초과/장애 시 failMode 에 따라 허용 또는 거부
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "rate_limit:";
+    private static final String GUARD_OPERATION = "rate-limit";
+    private static final RedisScript<Long> SLIDING_WINDOW_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/sliding_window_rate_limit.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisGuard redisGuard;
+
+    public RateLimiter(StringRedisTemplate stringRedisTemplate, RedisGuard redisGuard) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisGuard = redisGuard;
+    }
+
+    // window 동안 limit 회까지 허용
+    public RateLimitResult tryAcquire(String key, int limit, Duration window, RateLimited.FailMode failMode) {
+        Long retryAfterMillis = redisGuard.write(GUARD_OPERATION,
+                () -> stringRedisTemplate.execute(
+                        SLIDING_WINDOW_SCRIPT,
+                        List.of(redisKey(key)),
+                        String.valueOf(window.toMillis()),
+                        String.valueOf(limit),
+                        uniqueMember()
+                ),
+                () -> failMode == RateLimited.FailMode.OPEN ? 0L : window.toMillis());
+
+        if (retryAfterMillis == null || retryAfterMillis == 0) {
+            return RateLimitResult.allowed();
+        }
+        log.debug("rate limit 초과: {} (retry after {}ms)", key, retryAfterMillis);
+        return RateLimitResult.denied(retryAfterMillis);
+    }
+
+    // 제한 기록 ZSET 키 (다른 명령과 묶은 스크립트에서 같은 윈도우를 사용하는 경우)
+    public static String redisKey(String key) {
+        return KEY_PREFIX + key;
+    }
+
+    // ZSET member (같은 millis 요청도 구분되도록 시각 + 난수, 별도 시퀀스 키 불필요)
+    public static String uniqueMember() {
+        return System.currentTimeMillis() + "-" + Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+}
@@ -0,0 +1,73 @@
+package com.smooth.smooth_backend_user.global.util;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 연속 실패 기반 서킷 브레이커, thread-safe
+// - CLOSED: 정상 호출, 연속 실패가 임계치에 도달하면 OPEN
+// - OPEN: 호출 차단 (즉시 fallback), openDuration 경과 후 HALF_OPEN
+// - HALF_OPEN: 시험 호출 1건만 허용, 성공 시 CLOSED / 실패 시 다시 OPEN
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean trialInFlight = new AtomicBoolean();
+    private volatile State state = State.CLOSED;
+    private volatile long openedAtNanos;
+
+    public CircuitBreaker(int failureThreshold, long openDurationMillis) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDurationNanos = openDurationMillis * 1_000_000;
+    }
+
+    // 호출 가능 여부 (false면 호출하지 말고 fallback 사용)
+    public boolean tryAcquirePermission() {
+        State current = state;
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN) {
+            if (System.nanoTime() - openedAtNanos < openDurationNanos) {
+                return false;
+            }
+            synchronized (this) {
+                if (state == State.OPEN) {
+                    state = State.HALF_OPEN;
+                    trialInFlight.set(false);
+                }
+            }
+        }
+        return state == State.CLOSED || trialInFlight.compareAndSet(false, true);
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        if (state != State.CLOSED) {
+            synchronized (this) {
+                state = State.CLOSED;
+                trialInFlight.set(false);
+            }
+        }
+    }
+
+    public void onFailure() {
+        if (state == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            synchronized (this) {
+                state = State.OPEN;
+                openedAtNanos = System.nanoTime();
+                consecutiveFailures.set(0);
+                trialInFlight.set(false);
+            }
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,15 @@
+package com.smooth.smooth_backend_user.global.util;
+
+import java.util.Locale;
+
+// 이메일 비교/키 생성 기준 (MySQL 기본 collation 과 같이 대소문자 구분 없음)
+// - 가입 티켓 검증, 가입 이메일 필터, rate limit 키가 모두 같은 기준을 사용
+public final class EmailAddresses {
+
+    private EmailAddresses() {
+    }
+
+    public static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,13 +1,74 @@
 package com.smooth.smooth_backend_user.repository;
 
+import com.smooth.smooth_backend_user.dto.response.UserProfileResponseDto;
 import com.smooth.smooth_backend_user.entity.User;
+import com.smooth.smooth_backend_user.repository.projection.UserCredentials;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // 로그인: id, email, name, password 4개 컬럼만 조회 (엔티티 생성/스냅샷/dirty checking 없음)
+    @Query("select new com.smooth.smooth_backend_user.repository.projection.UserCredentials(" +
+            "u.id, u.email, u.name, u.password) from User u where u.email = :email")
+    Optional<UserCredentials> findCredentialsByEmail(@Param("email") String email);
+
+    // 프로필 조회: 응답 DTO로 바로 조회 (비밀번호/약관 컬럼 제외)
+    @Query("select new com.smooth.smooth_backend_user.dto.response.UserProfileResponseDto(" +
+            "u.id, u.email, u.name, u.phone, u.gender, u.bloodType, " +
+            "u.emergencyContact1, u.emergencyContact2, u.emergencyContact3, u.createdAt, u.updatedAt) " +
+            "from User u where u.id = :id")
+    Optional<UserProfileResponseDto> findProfileById(@Param("id") Long id);
+
+    // 비밀번호 조회 (현재 비밀번호 확인용)
+    @Query("select u.password from User u where u.id = :id")
+    Optional<String> findPasswordById(@Param("id") Long id);
+
+    // 부분 갱신: 변경 컬럼만 UPDATE 1회 (엔티티 로딩 없음, @UpdateTimestamp 미적용이라 수정 시각은 직접 전달)
+    // 호출 측 트랜잭션이 없으면 UPDATE 1건만 감싸는 트랜잭션으로 실행
+    // 비밀번호 해시만 갱신 (로그인 시 재해싱, 수정 시각은 변경하지 않음)
+    @Modifying
+    @Transactional
+    @Query("update User u set u.password = :password where u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
+
+    // 비밀번호 변경
+    @Modifying
+    @Transactional
+    @Query("update User u set u.password = :password, u.updatedAt = :updatedAt where u.id = :id")
+    int changePassword(@Param("id") Long id,
+                       @Param("password") String password,
+                       @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 응급정보 수정
+    @Modifying
+    @Transactional
+    @Query("update User u set u.bloodType = :bloodType, " +
+            "u.emergencyContact1 = :emergencyContact1, u.emergencyContact2 = :emergencyContact2, " +
+            "u.emergencyContact3 = :emergencyContact3, u.updatedAt = :updatedAt where u.id = :id")
+    int updateEmergencyInfo(@Param("id") Long id,
+                            @Param("bloodType") User.BloodType bloodType,
+                            @Param("emergencyContact1") String emergencyContact1,
+                            @Param("emergencyContact2") String emergencyContact2,
+                            @Param("emergencyContact3") String emergencyContact3,
+                            @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 전체 이메일 스트리밍 (MySQL 드라이버는 fetch size MIN_VALUE 일 때 행 단위 스트리밍, 트랜잭션 안에서 사용)
+    @Query("select u.email from User u")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    Stream<String> streamAllEmails();
 }
\ No newline at end of file
@@ -0,0 +1,5 @@
+package com.smooth.smooth_backend_user.repository.projection;
+
+// 로그인 조회용 프로젝션 (엔티티/영속성 컨텍스트 없이 필요한 컬럼만)
+public record UserCredentials(Long id, String email, String name, String password) {
+}
@@ -0,0 +1,40 @@
+package com.smooth.smooth_backend_user.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+// RedisService 비동기 버전 (Lettuce 네이티브 비동기 커넥션, 호출 스레드 블로킹 없음)
+// - 서로 독립적인 조회를 동시에 보내 왕복 시간을 겹치게 할 때 사용 (Mono.zip / toFuture)
+// - 키/값 형식은 RedisService 문자열 메서드와 동일
+@Service
+@RequiredArgsConstructor
+public class AsyncRedisService {
+
+    private static final String BLACKLIST_PREFIX = "blacklist:";
+    private static final String REVOKED_BEFORE_PREFIX = "revoked_before:";
+
+    private final ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+
+    public Mono<Boolean> isTokenBlacklisted(String revocationId) {
+        return reactiveStringRedisTemplate.hasKey(BLACKLIST_PREFIX + revocationId);
+    }
+
+    // jti 도입 전 발급 토큰: 새 키(digest) + 기존 키(원문 토큰) 동시 조회
+    // - 배포 전 로그아웃된 토큰은 기존 키로만 남아 있음 (토큰 만료와 함께 TTL 소멸)
+    public Mono<Boolean> isTokenBlacklisted(String revocationId, String legacyRevocationId) {
+        if (legacyRevocationId == null) {
+            return isTokenBlacklisted(revocationId);
+        }
+        return Mono.zip(isTokenBlacklisted(revocationId), isTokenBlacklisted(legacyRevocationId),
+                (current, legacy) -> current || legacy);
+    }
+
+    // 값이 없으면 empty
+    public Mono<Long> getRevocationEpoch(Long userId) {
+        return reactiveStringRedisTemplate.opsForValue().get(REVOKED_BEFORE_PREFIX + userId)
+                .map(RedisService::decodeLegacyJsonString)
+                .map(Long::valueOf);
+    }
+}
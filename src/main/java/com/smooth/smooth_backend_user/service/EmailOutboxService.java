@@ -0,0 +1,319 @@
+package com.smooth.smooth_backend_user.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 인증 메일 outbox (Redis Stream + consumer group)
+// - 요청 스레드는 XADD 후 즉시 반환, 워커 스레드가 풀링된 SMTP 연결로 배치 발송
+// - 발송 실패 시 지수 백오프로 재시도 (retry ZSET -> 만기 시 stream 재등록), 최대 횟수 초과 시 폐기
+// - 처리 중 노드가 죽어 ACK 되지 않은 메시지는 visibility timeout 이후 다른 워커가 회수
+//   (회수/재발송도 워커 스레드에서 수행 -> 공용 @Scheduled 스레드에서 SMTP 발송 없음)
+@Slf4j
+@Service
+public class EmailOutboxService {
+
+    static final String OUTBOX_KEY = "email_outbox";
+    static final String RETRY_KEY = "email_outbox:retry";
+    static final String CONSUMER_GROUP = "email-senders";
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(2);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final StreamOperations<String, String, String> streamOperations;
+    private final EmailService emailService;
+    private final PooledMailSender pooledMailSender;
+    private final ObjectMapper objectMapper;
+
+    private final int workers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final Duration visibilityTimeout;
+    private final long reclaimIntervalMillis;
+    private final AtomicLong nextReclaimAt = new AtomicLong();
+    private final String consumerPrefix = "sender-" + UUID.randomUUID().toString().substring(0, 8);
+
+    private final Timer lagTimer;
+    private final Counter retryCounter;
+    private final Counter deadCounter;
+
+    private volatile boolean running;
+    private ExecutorService workerPool;
+
+    public EmailOutboxService(StringRedisTemplate stringRedisTemplate,
+                              EmailService emailService,
+                              PooledMailSender pooledMailSender,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${email.outbox.workers:2}") int workers,
+                              @Value("${email.outbox.batch-size:10}") int batchSize,
+                              @Value("${email.outbox.max-attempts:5}") int maxAttempts,
+                              @Value("${email.outbox.retry-backoff-ms:2000}") long retryBackoffMillis,
+                              @Value("${email.outbox.visibility-timeout-ms:60000}") long visibilityTimeoutMillis,
+                              @Value("${email.outbox.reclaim-interval-ms:30000}") long reclaimIntervalMillis) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.streamOperations = stringRedisTemplate.opsForStream();
+        this.emailService = emailService;
+        this.pooledMailSender = pooledMailSender;
+        this.objectMapper = objectMapper;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.visibilityTimeout = Duration.ofMillis(visibilityTimeoutMillis);
+        this.reclaimIntervalMillis = reclaimIntervalMillis;
+
+        // 등록 ~ 발송 시작까지 대기 시간 (SMTP 발송 소요 시간은 PooledMailSender에서 기록)
+        this.lagTimer = Timer.builder("email.outbox.lag").register(meterRegistry);
+        this.retryCounter = Counter.builder("email.outbox.retries").register(meterRegistry);
+        this.deadCounter = Counter.builder("email.outbox.dead").register(meterRegistry);
+        Gauge.builder("email.outbox.size", this, service -> service.size(OUTBOX_KEY, false)).register(meterRegistry);
+        Gauge.builder("email.outbox.retry.size", this, service -> service.size(RETRY_KEY, true)).register(meterRegistry);
+    }
+
+    // outbox 레코드 필드 (인증코드 발송 스크립트가 코드 저장과 함께 XADD)
+    Map<String, String> verificationEmailFields(String toEmail, String verificationCode) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("id", UUID.randomUUID().toString());
+        fields.put("to", toEmail);
+        fields.put("code", verificationCode);
+        fields.put("enqueuedAt", String.valueOf(System.currentTimeMillis()));
+        fields.put("attempts", "0");
+        return fields;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            streamOperations.createGroup(OUTBOX_KEY, ReadOffset.from("0-0"), CONSUMER_GROUP);
+        } catch (Exception e) {
+            // 이미 그룹이 존재하는 경우 (BUSYGROUP)
+            log.debug("email outbox consumer group 존재: {}", e.getMessage());
+        }
+
+        running = true;
+        AtomicInteger threadNumber = new AtomicInteger();
+        workerPool = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "email-outbox-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workers; i++) {
+            String consumerName = consumerPrefix + "-" + i;
+            workerPool.submit(() -> poll(consumerName));
+        }
+        log.info("email outbox 워커 시작: {}개", workers);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (workerPool != null) {
+            workerPool.shutdown();
+            workerPool.awaitTermination(POLL_TIMEOUT.toMillis() * 2, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void poll(String consumerName) {
+        while (running) {
+            try {
+                if (isReclaimDue()) {
+                    reclaimStalled(consumerName);
+                }
+
+                List<MapRecord<String, String, String>> records = streamOperations.read(
+                        Consumer.from(CONSUMER_GROUP, consumerName),
+                        StreamReadOptions.empty().count(batchSize).block(POLL_TIMEOUT),
+                        StreamOffset.create(OUTBOX_KEY, ReadOffset.lastConsumed())
+                );
+
+                if (records != null && !records.isEmpty()) {
+                    deliver(records);
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("email outbox 조회 실패: {}", e.getMessage());
+                sleepQuietly(POLL_TIMEOUT.toMillis());
+            }
+        }
+    }
+
+    // 배치 발송: 하나의 SMTP 연결로 연속 발송 후 실패 건만 재시도 예약
+    private void deliver(List<MapRecord<String, String, String>> records) throws InterruptedException {
+        List<MapRecord<String, String, String>> sendable = new ArrayList<>(records.size());
+        List<MimeMessage> messages = new ArrayList<>(records.size());
+
+        for (MapRecord<String, String, String> record : records) {
+            Map<String, String> fields = record.getValue();
+            long enqueuedAt = Long.parseLong(fields.getOrDefault("enqueuedAt", "0"));
+            if (enqueuedAt > 0) {
+                lagTimer.record(Math.max(0, System.currentTimeMillis() - enqueuedAt), TimeUnit.MILLISECONDS);
+            }
+
+            try {
+                messages.add(emailService.createVerificationEmail(fields.get("to"), fields.get("code")));
+                sendable.add(record);
+            } catch (MessagingException e) {
+                // 주소 형식 오류 등 재시도해도 실패하는 메시지
+                deadCounter.increment();
+                log.error("인증 메일 생성 실패: {}", fields.get("to"), e);
+                acknowledge(record.getId());
+            }
+        }
+
+        List<Boolean> results = pooledMailSender.send(messages);
+        for (int i = 0; i < sendable.size(); i++) {
+            MapRecord<String, String, String> record = sendable.get(i);
+            if (!results.get(i)) {
+                scheduleRetry(record.getValue());
+            }
+            acknowledge(record.getId());
+        }
+    }
+
+    // 실패 메시지 재시도 예약 (지수 백오프)
+    private void scheduleRetry(Map<String, String> fields) {
+        int attempts = Integer.parseInt(fields.getOrDefault("attempts", "0")) + 1;
+        if (attempts >= maxAttempts) {
+            deadCounter.increment();
+            log.error("인증 메일 발송 최종 실패 ({}회): {}", attempts, fields.get("to"));
+            return;
+        }
+
+        Map<String, String> retry = new HashMap<>(fields);
+        retry.put("attempts", String.valueOf(attempts));
+        long nextAttemptAt = System.currentTimeMillis() + (retryBackoffMillis << Math.min(attempts - 1, 10));
+
+        try {
+            stringRedisTemplate.opsForZSet().add(RETRY_KEY, objectMapper.writeValueAsString(retry), nextAttemptAt);
+            retryCounter.increment();
+            log.warn("인증 메일 발송 실패, 재시도 예약 ({}회): {}", attempts, fields.get("to"));
+        } catch (JsonProcessingException e) {
+            log.error("재시도 메시지 직렬화 실패: {}", fields.get("to"), e);
+        }
+    }
+
+    // 재시도 시각이 된 메시지를 stream에 재등록 (ZREM 성공한 노드만 등록 -> 중복 방지)
+    @Scheduled(fixedDelayString = "${email.outbox.retry-poll-interval-ms:1000}")
+    public void promoteDueRetries() {
+        if (!running) {
+            return;
+        }
+
+        Set<String> due = stringRedisTemplate.opsForZSet()
+                .rangeByScore(RETRY_KEY, 0, System.currentTimeMillis(), 0, 100);
+        if (due == null) {
+            return;
+        }
+
+        for (String member : due) {
+            Long removed = stringRedisTemplate.opsForZSet().remove(RETRY_KEY, member);
+            if (removed == null || removed == 0) {
+                continue;
+            }
+
+            try {
+                Map<String, String> fields = objectMapper.readValue(member, new TypeReference<>() {
+                });
+                streamOperations.add(StreamRecords.string(fields).withStreamKey(OUTBOX_KEY));
+            } catch (JsonProcessingException e) {
+                log.error("재시도 메시지 역직렬화 실패: {}", member, e);
+            }
+        }
+    }
+
+    // 회수 주기마다 워커 1개만 회수 담당 (CAS 성공한 워커)
+    private boolean isReclaimDue() {
+        long now = System.currentTimeMillis();
+        long dueAt = nextReclaimAt.get();
+        return now >= dueAt && nextReclaimAt.compareAndSet(dueAt, now + reclaimIntervalMillis);
+    }
+
+    // ACK 되지 않고 visibility timeout이 지난 메시지 회수 (처리 중 종료된 노드)
+    // - 회수한 워커가 자기 consumer 로 claim 후 일반 배치와 같은 경로로 발송
+    void reclaimStalled(String consumerName) throws InterruptedException {
+        PendingMessages pending = streamOperations.pending(OUTBOX_KEY, CONSUMER_GROUP, Range.unbounded(), 100);
+        if (pending == null || pending.isEmpty()) {
+            return;
+        }
+
+        RecordId[] stalled = pending.stream()
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(visibilityTimeout) > 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (stalled.length == 0) {
+            return;
+        }
+
+        List<MapRecord<String, String, String>> claimed = streamOperations.claim(
+                OUTBOX_KEY, CONSUMER_GROUP, consumerName, visibilityTimeout, stalled);
+        if (claimed != null && !claimed.isEmpty()) {
+            log.info("email outbox 미처리 메시지 회수: {}건", claimed.size());
+            deliver(claimed);
+        }
+    }
+
+    private void acknowledge(RecordId recordId) {
+        streamOperations.acknowledge(OUTBOX_KEY, CONSUMER_GROUP, recordId);
+        streamOperations.delete(OUTBOX_KEY, recordId);
+    }
+
+    private double size(String key, boolean sortedSet) {
+        try {
+            Long size = sortedSet
+                    ? stringRedisTemplate.opsForZSet().zCard(key)
+                    : streamOperations.size(key);
+            return size != null ? size : 0;
+        } catch (Exception e) {
+            return Double.NaN;
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
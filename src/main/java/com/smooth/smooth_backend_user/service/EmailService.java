@@ -1,9 +1,11 @@
 package com.smooth.smooth_backend_user.service;
 
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -15,19 +17,7 @@ public class EmailService {
 
     public void sendVerificationEmail(String toEmail, String verificationCode) {
         try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(toEmail);
-            message.setSubject("[Smooth] 이메일 인증코드");
-            message.setText(
-                    "안녕하세요, Smooth입니다.\n\n" +
-                            "회원가입을 위한 인증코드입니다:\n\n" +
-                            "인증코드: " + verificationCode + "\n\n" +
-                            "인증코드는 3분간 유효합니다.\n" +
-                            "만약 본인이 요청하지 않은 인증코드라면 무시해주세요.\n\n" +
-                            "감사합니다."
-            );
-
-            javaMailSender.send(message);
+            javaMailSender.send(createVerificationEmail(toEmail, verificationCode));
             log.info("인증 이메일 발송 완료: {}", toEmail);
 
         } catch (Exception e) {
@@ -35,4 +25,21 @@ public class EmailService {
             throw new RuntimeException("이메일 발송에 실패했습니다.");
         }
     }
-}
\ No newline at end of file
+
+    // 인증 메일 생성 (발송은 호출자가 처리, 배치 발송용)
+    public MimeMessage createVerificationEmail(String toEmail, String verificationCode) throws MessagingException {
+        MimeMessage message = javaMailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+        helper.setTo(toEmail);
+        helper.setSubject("[Smooth] 이메일 인증코드");
+        helper.setText(
+                "안녕하세요, Smooth입니다.\n\n" +
+                        "회원가입을 위한 인증코드입니다:\n\n" +
+                        "인증코드: " + verificationCode + "\n\n" +
+                        "인증코드는 3분간 유효합니다.\n" +
+                        "만약 본인이 요청하지 않은 인증코드라면 무시해주세요.\n\n" +
+                        "감사합니다."
+        );
+        return message;
+    }
+}
@@ -2,28 +2,54 @@ package com.smooth.smooth_backend_user.service;
 
 import com.smooth.smooth_backend_user.exception.AuthErrorCode;
 import com.smooth.smooth_backend_user.global.exception.BusinessException;
-import lombok.RequiredArgsConstructor;
+import com.smooth.smooth_backend_user.global.exception.CommonErrorCode;
+import com.smooth.smooth_backend_user.global.ratelimit.RateLimiter;
+import com.smooth.smooth_backend_user.global.util.EmailAddresses;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class EmailVerificationService {
 
     private final RedisService redisService;
-    private final EmailService emailService;
+    private final EmailOutboxService emailOutboxService;
     private final UserService userService;
+    private final RedisGuard redisGuard;
+    private final boolean legacyVerification; // 티켓 없이 가입하는 기존 클라이언트 지원 (전환 기간)
+
+    public EmailVerificationService(RedisService redisService,
+                                    EmailOutboxService emailOutboxService,
+                                    UserService userService,
+                                    RedisGuard redisGuard,
+                                    @Value("${auth.registration-ticket.required:false}") boolean registrationTicketRequired) {
+        this.redisService = redisService;
+        this.emailOutboxService = emailOutboxService;
+        this.userService = userService;
+        this.redisGuard = redisGuard;
+        this.legacyVerification = !registrationTicketRequired;
+    }
 
     private static final int CODE_LENGTH = 5;
     private static final int EXPIRATION_MINUTES = 3;
     private static final String CODE_PREFIX = "email_verification:";
-    private static final String VERIFIED_PREFIX = "email_verified:";
     private static final String SEND_LIMIT_PREFIX = "email_send_limit:";
+    private static final String VERIFIED_PREFIX = "email_verified:"; // 전환 기간에만 사용
+    private static final int VERIFIED_MINUTES = 30;
     private static final int MAX_SEND_COUNT = 3;
     private static final int SEND_LIMIT_MINUTES = 10;
+    private static final RedisScript<Long> SEND_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/send_verification_code.lua"), Long.class);
+    private static final RedisScript<Long> VERIFY_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/verify_email_code.lua"), Long.class);
 
     // 인증코드 생성
     private String generateVerificationCode() {
@@ -37,33 +63,9 @@ public class EmailVerificationService {
         return code.toString();
     }
 
-    // 발송 횟수 제한 체크
-    private void validateSendLimit(String email) {
-        String limitKey = SEND_LIMIT_PREFIX + email;
-        String countStr = redisService.getStringValue(limitKey);
-        int count = countStr != null ? Integer.parseInt(countStr) : 0;
-
-        if (count >= MAX_SEND_COUNT) {
-            log.warn("이메일 발송 횟수 초과: {} ({}회)", email, count);
-            throw new BusinessException(AuthErrorCode.EMAIL_SEND_LIMIT_EXCEEDED,
-                    String.format("%d분 후에 다시 시도해주세요.", SEND_LIMIT_MINUTES));
-        }
-    }
-
-    // 발송 횟수 증가
-    private void incrementSendCount(String email) {
-        String limitKey = SEND_LIMIT_PREFIX + email;
-        String countStr = redisService.getStringValue(limitKey);
-        int count = countStr != null ? Integer.parseInt(countStr) : 0;
-
-        redisService.setStringValue(limitKey, String.valueOf(count + 1), SEND_LIMIT_MINUTES * 60);
-    }
-
     // 인증코드 발송
     public void sendVerificationCode(String email) {
 
-        validateSendLimit(email); // 발송 횟수 제한 체크
-
         // 이미 가입된 이메일인지 확인
         if (userService.isEmailExists(email)) {
             throw new RuntimeException("이미 가입된 회원입니다.");
@@ -71,62 +73,104 @@ public class EmailVerificationService {
 
         // 인증코드 생성
         String verificationCode = generateVerificationCode();
+        // 발송 제한/인증코드 키는 정규화된 이메일 기준 (대소문자만 바꿔 제한을 우회하지 못하도록)
+        String normalized = EmailAddresses.normalize(email);
 
-        // Redis에 인증코드 저장 (3분 만료)
-        String redisKey = CODE_PREFIX + email;
-        redisService.setStringValue(redisKey, verificationCode, EXPIRATION_MINUTES * 60);
-
-        // 이메일 발송
+        // 발송 횟수 제한 체크 + 인증코드 저장 (3분 만료) + 발송 요청 등록 (1회 왕복)
+        // SMTP 발송은 outbox 워커가 비동기 처리
+        Long retryAfterMillis;
         try {
-            emailService.sendVerificationEmail(email, verificationCode);
-
-            // 발송 횟수 증가
-            incrementSendCount(email);
-
-            log.info("인증코드 발송 완료: {}", email);
+            List<String> args = new ArrayList<>();
+            args.add(String.valueOf(Duration.ofMinutes(SEND_LIMIT_MINUTES).toMillis()));
+            args.add(String.valueOf(MAX_SEND_COUNT));
+            args.add(verificationCode);
+            args.add(String.valueOf(EXPIRATION_MINUTES * 60));
+            args.add(RateLimiter.uniqueMember());
+            emailOutboxService.verificationEmailFields(email, verificationCode).forEach((field, value) -> {
+                args.add(field);
+                args.add(value);
+            });
+
+            // Redis 지연/장애 시 503 (로컬 발송 없음)
+            // - 예산 초과 시 스크립트가 이미 XADD 했을 수 있어 재발송하면 중복 메일
+            // - 발송 횟수 제한은 Redis 에서만 전역으로 보장됨
+            retryAfterMillis = redisGuard.write("verification.send",
+                    () -> redisService.executeScript(
+                            SEND_SCRIPT,
+                            List.of(RateLimiter.redisKey(SEND_LIMIT_PREFIX + normalized), CODE_PREFIX + normalized,
+                                    EmailOutboxService.OUTBOX_KEY),
+                            args.toArray(String[]::new)
+                    ),
+                    () -> null);
         } catch (Exception e) {
-            log.error("인증코드 발송 실패: {}", email, e);
+            log.error("인증코드 발송 요청 실패: {}", email, e);
             throw new BusinessException(AuthErrorCode.EMAIL_SEND_LIMIT_EXCEEDED, "이메일 발송에 실패했습니다.");
         }
+
+        if (retryAfterMillis == null) {
+            log.warn("Redis 장애로 인증코드 발송 요청 거부: {}", email);
+            throw new BusinessException(CommonErrorCode.SERVICE_UNAVAILABLE);
+        }
+
+        if (retryAfterMillis > 0) {
+            log.warn("이메일 발송 횟수 초과: {}", email);
+            throw new BusinessException(AuthErrorCode.EMAIL_SEND_LIMIT_EXCEEDED,
+                    String.format("%d초 후에 다시 시도해주세요.", (retryAfterMillis + 999) / 1000));
+        }
+
+        log.info("인증코드 발송 요청 완료: {}", email);
     }
 
-    // 인증코드 검증
+    // 인증코드 검증 (비교 + 삭제를 1회 왕복으로 처리)
+    // 인증 완료 상태는 서명된 회원가입 티켓으로 전달 (전환 기간에는 기존 클라이언트용 인증 완료 키도 기록)
     public boolean verifyCode(String email, String inputCode) {
-        String redisKey = CODE_PREFIX + email;
-        String storedCode = redisService.getStringValue(redisKey);
+        // Redis 지연/장애 시 503 (만료로 응답하지 않음)
+        // - 예산 초과 시 스크립트가 이미 코드를 소비했을 수 있음 -> 재시도 시 만료로 응답될 수 있어 재발송 필요
+        Long result = redisGuard.write("verification.verify",
+                () -> redisService.executeScript(
+                        VERIFY_SCRIPT,
+                        List.of(CODE_PREFIX + EmailAddresses.normalize(email)),
+                        inputCode
+                ),
+                () -> null);
+
+        if (result == null) {
+            log.warn("Redis 장애로 인증코드 검증 불가: {}", email);
+            throw new BusinessException(CommonErrorCode.SERVICE_UNAVAILABLE);
+        }
 
-        if (storedCode == null) {
+        if (result < 0) {
             log.warn("인증코드 만료 또는 존재하지 않음: {}", email);
             throw new BusinessException(AuthErrorCode.VERIFICATION_CODE_EXPIRED);
         }
 
-        if (!storedCode.equals(inputCode)) {
+        if (result == 0) {
             log.warn("인증코드 불일치: {}", email);
             throw new BusinessException(AuthErrorCode.VERIFICATION_CODE_MISMATCH);
         }
 
-        // 인증 성공 시 인증코드 삭제
-        redisService.deleteValue(redisKey);
-
-        // 인증 완료 표시 (회원가입 시까지 유지)
-        String verifiedKey = VERIFIED_PREFIX + email;
-        redisService.setStringValue(verifiedKey, "true", 30 * 60); // 30분 유지
+        if (legacyVerification) {
+            redisGuard.write("verification.legacy-mark", () -> {
+                redisService.setStringValue(VERIFIED_PREFIX + EmailAddresses.normalize(email), "true",
+                        VERIFIED_MINUTES * 60);
+                return true;
+            }, () -> false);
+        }
 
         log.info("이메일 인증 성공: {}", email);
         return true;
     }
 
-    // 이메일 인증 여부 확인
-    public boolean isEmailVerified(String email) {
-        String verifiedKey = VERIFIED_PREFIX + email;
-        String verified = redisService.getStringValue(verifiedKey);
-        return "true".equals(verified);
+    // 티켓 없는 가입 요청의 인증 완료 여부 (전환 기간에만, auth.registration-ticket.required=false)
+    public boolean isLegacyVerified(String email) {
+        return legacyVerification
+                && "true".equals(redisService.getStringValue(VERIFIED_PREFIX + EmailAddresses.normalize(email)));
     }
 
-    // 이메일 인증 상태 삭제 (회원가입 완료 후 호출)
-    public void clearVerificationStatus(String email) {
-        String verifiedKey = VERIFIED_PREFIX + email;
-        redisService.deleteValue(verifiedKey);
-        log.info("이메일 인증 상태 삭제 완료: {}", email);
+    // 가입 완료 후 인증 완료 키 삭제
+    public void clearLegacyVerification(String email) {
+        if (legacyVerification) {
+            redisService.deleteValue(VERIFIED_PREFIX + EmailAddresses.normalize(email));
+        }
     }
-}
\ No newline at end of file
+}
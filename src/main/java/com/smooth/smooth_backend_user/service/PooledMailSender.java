@@ -0,0 +1,129 @@
+package com.smooth.smooth_backend_user.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// 인증된 SMTP 연결 풀 (연결당 STARTTLS/AUTH 1회)
+// - 배치 단위로 연결을 빌려 여러 메일을 연속 발송
+// - 연결당 최대 발송 건수 초과 시 재연결, 발송 실패 시 재연결 후 1회 재시도
+@Slf4j
+@Service
+public class PooledMailSender {
+
+    private final JavaMailSenderImpl mailSender;
+    private final BlockingQueue<PooledTransport> idleTransports;
+    private final int maxMessagesPerConnection;
+
+    private final Timer sendTimer;
+    private final Counter connectCounter;
+
+    public PooledMailSender(JavaMailSenderImpl mailSender,
+                            MeterRegistry meterRegistry,
+                            @Value("${email.smtp.pool.size:2}") int poolSize,
+                            @Value("${email.smtp.pool.max-messages-per-connection:100}") int maxMessagesPerConnection) {
+        this.mailSender = mailSender;
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.idleTransports = new ArrayBlockingQueue<>(poolSize);
+        for (int i = 0; i < poolSize; i++) {
+            idleTransports.add(new PooledTransport());
+        }
+
+        this.sendTimer = Timer.builder("email.send.latency").register(meterRegistry);
+        this.connectCounter = Counter.builder("email.smtp.connections").register(meterRegistry);
+    }
+
+    // 배치 발송, 메시지별 성공 여부 반환 (입력 순서와 동일)
+    public List<Boolean> send(List<MimeMessage> messages) throws InterruptedException {
+        PooledTransport transport = idleTransports.take();
+        try {
+            List<Boolean> results = new ArrayList<>(messages.size());
+            for (MimeMessage message : messages) {
+                results.add(send(transport, message));
+            }
+            return results;
+        } finally {
+            idleTransports.add(transport);
+        }
+    }
+
+    private boolean send(PooledTransport transport, MimeMessage message) {
+        long start = System.nanoTime();
+        try {
+            message.saveChanges();
+            try {
+                transport.send(message);
+            } catch (MessagingException e) {
+                // 서버가 연결을 끊은 경우 등: 재연결 후 1회 재시도
+                log.debug("SMTP 발송 실패, 재연결 후 재시도: {}", e.getMessage());
+                transport.close();
+                transport.send(message);
+            }
+            return true;
+        } catch (MessagingException e) {
+            log.warn("SMTP 발송 실패: {}", e.getMessage());
+            transport.close();
+            return false;
+        } finally {
+            sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @PreDestroy
+    void closeAll() {
+        idleTransports.forEach(PooledTransport::close);
+    }
+
+    private class PooledTransport {
+
+        private Transport transport;
+        private int sentCount;
+
+        void send(MimeMessage message) throws MessagingException {
+            if (transport == null || sentCount >= maxMessagesPerConnection || !transport.isConnected()) {
+                reconnect();
+            }
+            transport.sendMessage(message, message.getAllRecipients());
+            sentCount++;
+        }
+
+        private void reconnect() throws MessagingException {
+            close();
+
+            String protocol = mailSender.getProtocol() != null ? mailSender.getProtocol() : "smtp";
+            Transport newTransport = mailSender.getSession().getTransport(protocol);
+            newTransport.connect(mailSender.getHost(), mailSender.getPort(),
+                    mailSender.getUsername(), mailSender.getPassword());
+
+            transport = newTransport;
+            sentCount = 0;
+            connectCounter.increment();
+        }
+
+        void close() {
+            if (transport == null) {
+                return;
+            }
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("SMTP 연결 종료 실패: {}", e.getMessage());
+            }
+            transport = null;
+        }
+    }
+}
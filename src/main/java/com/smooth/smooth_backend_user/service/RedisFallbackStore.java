@@ -0,0 +1,47 @@
+package com.smooth.smooth_backend_user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+// Redis 장애(서킷 OPEN) 동안 사용하는 노드 로컬 저장소 (크기 제한)
+// - 블랙리스트 쓰기: Redis 복구 후 재기록 (로컬 폐기 목록은 TokenBlacklistService 가 유지)
+// - 인증코드 발송/검증은 로컬 대체 없이 503 (EmailVerificationService)
+@Component
+public class RedisFallbackStore {
+
+    private final Cache<String, Long> pendingBlacklist; // revocationId -> 토큰 만료시각 (epoch millis)
+
+    public RedisFallbackStore(MeterRegistry meterRegistry,
+                              @Value("${redis.guard.fallback.maximum-size:10000}") long maximumSize) {
+        this.pendingBlacklist = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, pendingBlacklist, "redis.fallback.pending-blacklist");
+    }
+
+    public void addPendingBlacklist(String revocationId, long expiration) {
+        pendingBlacklist.put(revocationId, expiration);
+    }
+
+    // 재기록 대기 항목 처리 (consumer 가 예외 없이 끝난 항목만 제거)
+    public void drainPendingBlacklist(BiConsumer<String, Long> consumer) {
+        for (Map.Entry<String, Long> entry : pendingBlacklist.asMap().entrySet()) {
+            if (entry.getValue() > System.currentTimeMillis()) {
+                consumer.accept(entry.getKey(), entry.getValue());
+            }
+            pendingBlacklist.asMap().remove(entry.getKey(), entry.getValue());
+        }
+    }
+
+    public boolean hasPendingBlacklist() {
+        return pendingBlacklist.estimatedSize() > 0;
+    }
+}
@@ -0,0 +1,171 @@
+package com.smooth.smooth_backend_user.service;
+
+import com.smooth.smooth_backend_user.global.util.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Redis 호출 지연 보호 (작업별 지연 예산 + 서킷 브레이커 + 로컬 fallback)
+// - 예산 초과/오류가 연속되면 브레이커 OPEN -> Redis 호출 없이 fallback 응답
+// - 비동기 호출은 예산 초과 시 즉시 중단
+// - 동기 호출은 전용 스레드에서 실행하고 호출 스레드는 예산만큼만 대기 -> 초과 시 fallback
+//   (Lettuce 명령 타임아웃은 전역 설정이라 작업별 예산을 강제하지 못함)
+//   예산 초과로 포기한 쓰기도 Redis 에는 반영될 수 있음 -> 쓰기 fallback 은 중복 반영에 안전해야 함
+@Slf4j
+@Component
+public class RedisGuard {
+
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final Duration readBudget;
+    private final Duration writeBudget;
+    private final ThreadPoolExecutor syncExecutor;
+
+    // 작업별 카운터 (호출마다 registry 조회하지 않도록 캐시)
+    private final Map<String, Counter> fallbackCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> budgetExceededCounters = new ConcurrentHashMap<>();
+
+    public RedisGuard(MeterRegistry meterRegistry,
+                      @Value("${redis.guard.failure-threshold:5}") int failureThreshold,
+                      @Value("${redis.guard.open-duration-ms:5000}") long openDurationMillis,
+                      @Value("${redis.guard.read-budget-ms:50}") long readBudgetMillis,
+                      @Value("${redis.guard.write-budget-ms:200}") long writeBudgetMillis,
+                      @Value("${redis.guard.sync-threads:16}") int syncThreads,
+                      @Value("${redis.guard.sync-queue-capacity:256}") int syncQueueCapacity) {
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openDurationMillis);
+        this.meterRegistry = meterRegistry;
+        this.readBudget = Duration.ofMillis(readBudgetMillis);
+        this.writeBudget = Duration.ofMillis(writeBudgetMillis);
+
+        // 큐가 가득 차면 (Redis 가 계속 느린 경우) 대기 없이 fallback
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.syncExecutor = new ThreadPoolExecutor(syncThreads, syncThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(syncQueueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "redis-guard-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("redis.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("Redis 서킷 브레이커 상태 (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+                .register(meterRegistry);
+    }
+
+    // 비동기 조회: 예산 초과 시 중단 후 fallback
+    public <T> Mono<T> read(String operation, Mono<T> call, Supplier<T> fallback) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return fallback(operation, fallback);
+        }
+
+        return call
+                .timeout(readBudget)
+                .doOnSuccess(result -> circuitBreaker.onSuccess())
+                .onErrorResume(e -> {
+                    onFailure(operation, e);
+                    return fallback(operation, fallback);
+                });
+    }
+
+    // 동기 조회
+    public <T> T read(String operation, Supplier<T> call, Supplier<T> fallback) {
+        return execute(operation, readBudget, call, fallback);
+    }
+
+    // 동기 쓰기 (스크립트 포함)
+    public <T> T write(String operation, Supplier<T> call, Supplier<T> fallback) {
+        return execute(operation, writeBudget, call, fallback);
+    }
+
+    public CircuitBreaker.State getState() {
+        return circuitBreaker.getState();
+    }
+
+    public boolean isClosed() {
+        return circuitBreaker.getState() == CircuitBreaker.State.CLOSED;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        syncExecutor.shutdownNow();
+    }
+
+    private <T> T execute(String operation, Duration budget, Supplier<T> call, Supplier<T> fallback) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            fallbackHit(operation);
+            return fallback.get();
+        }
+
+        Future<T> future;
+        try {
+            future = syncExecutor.submit(call::get);
+        } catch (RejectedExecutionException e) {
+            onFailure(operation, e);
+            fallbackHit(operation);
+            return fallback.get();
+        }
+
+        try {
+            T result = future.get(budget.toNanos(), TimeUnit.NANOSECONDS);
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            onFailure(operation, e);
+        } catch (ExecutionException e) {
+            onFailure(operation, e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+        }
+        fallbackHit(operation);
+        return fallback.get();
+    }
+
+    private <T> Mono<T> fallback(String operation, Supplier<T> fallback) {
+        fallbackHit(operation);
+        return Mono.justOrEmpty(fallback.get());
+    }
+
+    private void onFailure(String operation, Throwable e) {
+        if (e instanceof TimeoutException) {
+            budgetExceeded(operation);
+        } else {
+            log.warn("Redis 호출 실패: {} ({})", operation, e.getMessage());
+        }
+        circuitBreaker.onFailure();
+    }
+
+    private void fallbackHit(String operation) {
+        fallbackCounters.computeIfAbsent(operation, key -> Counter.builder("redis.fallback.hits")
+                        .description("Redis 대신 로컬 fallback 으로 응답한 횟수")
+                        .tag("operation", key)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    private void budgetExceeded(String operation) {
+        budgetExceededCounters.computeIfAbsent(operation, key -> Counter.builder("redis.budget.exceeded")
+                        .description("작업별 지연 예산을 초과한 Redis 호출 수")
+                        .tag("operation", key)
+                        .register(meterRegistry))
+                .increment();
+    }
+}
@@ -1,55 +1,111 @@
 package com.smooth.smooth_backend_user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 public class RedisService {
 
+    private static final String BLACKLIST_PREFIX = "blacklist:";
+    private static final String REVOKED_BEFORE_PREFIX = "revoked_before:";
+    private static final String BLACKLIST_MARKER = "1";
+
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // JWT 블랙리스트 저장 + 다른 노드에 전파 (키: 고정 길이 jti digest, pipeline 1회 왕복)
+    public void addToBlacklistAndPublish(String revocationId, long expirationTimeInSeconds,
+                                         String channel, String message) {
+        executePipelined(connection -> {
+            connection.setEx(BLACKLIST_PREFIX + revocationId, Math.max(1, expirationTimeInSeconds), BLACKLIST_MARKER);
+            connection.publish(channel, message);
+        });
+    }
+
+    public boolean isTokenBlacklisted(String revocationId) {
+        return stringRedisTemplate.hasKey(BLACKLIST_PREFIX + revocationId);
+    }
 
-    // JWT 블랙리스트 관리
-    public void addToBlacklist(String token, long expirationTimeInSeconds) {
-        redisTemplate.opsForValue().set(
-                "blacklist:" + token,
-                "blocked",
-                Duration.ofSeconds(expirationTimeInSeconds)
-        );
+    // 사용자별 토큰 폐기 기준 시각 저장 + 다른 노드에 전파 (이 시각 이전에 발급된 토큰은 모두 무효, pipeline 1회 왕복)
+    public void setRevocationEpochAndPublish(Long userId, long epochMillis, long expirationTimeInSeconds,
+                                             String channel, String message) {
+        executePipelined(connection -> {
+            connection.setEx(REVOKED_BEFORE_PREFIX + userId, expirationTimeInSeconds, String.valueOf(epochMillis));
+            connection.publish(channel, message);
+        });
     }
 
-    public boolean isTokenBlacklisted(String token) {
-        return redisTemplate.hasKey("blacklist:" + token);
+    public Long getRevocationEpoch(Long userId) {
+        String value = decodeLegacyJsonString(stringRedisTemplate.opsForValue().get(REVOKED_BEFORE_PREFIX + userId));
+        return value != null ? Long.valueOf(value) : null;
     }
 
-    // 일반적인 캐시 작업
+    // 일반적인 캐시 작업 (객체 값, 바이너리 직렬화)
     public void setValue(String key, Object value, long timeoutInSeconds) {
         redisTemplate.opsForValue().set(key, value, Duration.ofSeconds(timeoutInSeconds));
     }
 
+    // 값이 없을 때만 저장 (SET NX)
+    public boolean setValueIfAbsent(String key, Object value, long timeoutInSeconds) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, value, Duration.ofSeconds(timeoutInSeconds)));
+    }
+
     public Object getValue(String key) {
         return redisTemplate.opsForValue().get(key);
     }
 
     public void deleteValue(String key) {
-        redisTemplate.delete(key);
+        stringRedisTemplate.delete(key);
     }
 
     public boolean hasKey(String key) {
-        return redisTemplate.hasKey(key);
+        return stringRedisTemplate.hasKey(key);
     }
 
-    // 문자열 전용 메서드 추가
+    // 문자열 전용 메서드 (UTF-8 그대로 저장, 직렬화/파싱 없음)
     public void setStringValue(String key, String value, long timeoutInSeconds) {
-        redisTemplate.opsForValue().set(key, value, Duration.ofSeconds(timeoutInSeconds));
+        stringRedisTemplate.opsForValue().set(key, value, Duration.ofSeconds(timeoutInSeconds));
     }
 
     public String getStringValue(String key) {
-        Object value = redisTemplate.opsForValue().get(key);
-        return value != null ? value.toString() : null;
+        return decodeLegacyJsonString(stringRedisTemplate.opsForValue().get(key));
+    }
+
+    // 조회와 동시에 삭제 (GETDEL, 1회용 값)
+    public String getAndDeleteStringValue(String key) {
+        return decodeLegacyJsonString(stringRedisTemplate.opsForValue().getAndDelete(key));
+    }
+
+    // JSON 직렬화 시절 저장된 문자열 값("\"...\"") 호환 (해당 키 TTL 경과 후 제거 가능)
+    static String decodeLegacyJsonString(String value) {
+        if (value != null && value.length() >= 2 && value.charAt(0) == '"' && value.charAt(value.length() - 1) == '"') {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+
+    // 명령 묶음 처리 (문자열 값 기준, 1회 왕복)
+    // - pipeline: 응답을 기다리지 않고 연속 전송, 결과는 명령 순서대로 반환
+    public List<Object> executePipelined(Consumer<StringRedisConnection> commands) {
+        return stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            commands.accept((StringRedisConnection) connection);
+            return null;
+        });
+    }
+
+    // - Lua 스크립트: 조건 분기가 필요한 묶음 (EVALSHA, 스크립트 미등록 시 EVAL 재시도)
+    public <T> T executeScript(RedisScript<T> script, List<String> keys, String... args) {
+        return stringRedisTemplate.execute(script, keys, (Object[]) args);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,74 @@
+package com.smooth.smooth_backend_user.service;
+
+import com.smooth.smooth_backend_user.exception.AuthErrorCode;
+import com.smooth.smooth_backend_user.global.exception.BusinessException;
+import com.smooth.smooth_backend_user.global.util.TokenDigests;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+
+// 리프레시 토큰 (불투명 랜덤 문자열, 1회용 회전)
+// - Redis 키: refresh_token:<sha256(token)> -> "<userId>:<발급시각 millis>:<email>"
+// - 사용 시 GETDEL로 원자적으로 소비 후 새 토큰 발급 (재사용 불가)
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
+    private static final int TOKEN_BYTES = 32;
+
+    private final RedisService redisService;
+    private final TokenBlacklistService tokenBlacklistService;
+    private final long refreshValidityInMilliseconds;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenService(RedisService redisService,
+                               TokenBlacklistService tokenBlacklistService,
+                               @Value("${jwt.refresh-expiration}") long refreshValidityInMilliseconds) {
+        this.redisService = redisService;
+        this.tokenBlacklistService = tokenBlacklistService;
+        this.refreshValidityInMilliseconds = refreshValidityInMilliseconds;
+    }
+
+    // 리프레시 토큰 발급
+    public String issue(Long userId, String email) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        redisService.setStringValue(
+                REFRESH_TOKEN_PREFIX + TokenDigests.sha256(refreshToken),
+                userId + ":" + System.currentTimeMillis() + ":" + email,
+                refreshValidityInMilliseconds / 1000
+        );
+        return refreshToken;
+    }
+
+    // 리프레시 토큰 소비 (1회용), 사용자 전체 폐기 이전에 발급된 토큰은 거부
+    public RefreshTokenOwner consume(String refreshToken) {
+        String value = redisService.getAndDeleteStringValue(REFRESH_TOKEN_PREFIX + TokenDigests.sha256(refreshToken));
+        if (value == null) {
+            throw new BusinessException(AuthErrorCode.INVALID_TOKEN);
+        }
+
+        String[] parts = value.split(":", 3);
+        RefreshTokenOwner owner = new RefreshTokenOwner(Long.valueOf(parts[0]), parts[2]);
+        long issuedAt = Long.parseLong(parts[1]);
+
+        if (tokenBlacklistService.isIssuedBeforeRevocationEpoch(owner.userId(), issuedAt)) {
+            log.warn("폐기된 리프레시 토큰 사용: 사용자 ID {}", owner.userId());
+            throw new BusinessException(AuthErrorCode.INVALID_TOKEN);
+        }
+        return owner;
+    }
+
+    public void revoke(String refreshToken) {
+        redisService.deleteValue(REFRESH_TOKEN_PREFIX + TokenDigests.sha256(refreshToken));
+    }
+
+    public record RefreshTokenOwner(Long userId, String email) {
+    }
+}
@@ -0,0 +1,302 @@
+package com.smooth.smooth_backend_user.service;
+
+import com.smooth.smooth_backend_user.global.util.BloomFilter;
+import com.smooth.smooth_backend_user.global.util.EmailAddresses;
+import com.smooth.smooth_backend_user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// 가입된 이메일 멤버십 필터 (existsByEmail 앞단)
+// - "확실히 미가입"이면 DB 조회 생략, "가입됐을 수 있음"일 때만 DB 조회
+// - 기동 시 users 테이블을 스트리밍해 적재, 주기적으로 재구성 (탈퇴한 이메일 정리)
+//   재구성은 전용 스레드에서 실행 (공용 @Scheduled 스레드를 점유하지 않음)
+// - 가입 시 즉시 추가 (local: pub/sub 으로 다른 노드에 전달, shared: Redis 비트맵 공유)
+// - 블룸 필터는 삭제를 지원하지 않으므로 탈퇴는 재구성 전까지 false positive (DB 조회로 보정)
+@Slf4j
+@Service
+public class RegisteredEmailFilter implements MessageListener {
+
+    public static final String REGISTERED_CHANNEL = "registered_email:events";
+
+    private static final String SHARED_FILTER_KEY = "registered_email:filter";
+    private static final String SHARED_REBUILD_KEY = "registered_email:filter:rebuild";
+    private static final String SHARED_REBUILD_LOCK_KEY = "registered_email:filter:lock";
+    private static final String SHARED_REBUILDING_KEY = "registered_email:filter:rebuilding"; // 있으면 가입 시 양쪽 키에 기록
+    private static final Duration SHARED_REBUILD_LOCK_TTL = Duration.ofMinutes(10);
+    private static final int SHARED_BATCH_SIZE = 1000;
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final RedisGuard redisGuard;
+
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+    private final boolean shared;
+    private final long rebuildIntervalMillis;
+    private final ScheduledExecutorService rebuildExecutor;
+    private final BloomFilter sharedLayout; // shared 모드의 비트 배치 (비트 자체는 Redis에 저장)
+    private volatile boolean sharedReady;
+
+    private volatile BloomFilter filter;  // null이면 아직 로딩 전 -> 필터 미사용
+    private volatile BloomFilter rebuildingFilter;
+    private final Counter filterRejections;
+    private final Counter addFailures;
+
+    public RegisteredEmailFilter(UserRepository userRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 StringRedisTemplate stringRedisTemplate,
+                                 RedisMessageListenerContainer listenerContainer,
+                                 RedisGuard redisGuard,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${user.email-filter.expected-insertions:1000000}") long expectedInsertions,
+                                 @Value("${user.email-filter.false-positive-probability:0.01}") double falsePositiveProbability,
+                                 @Value("${user.email-filter.shared:false}") boolean shared,
+                                 @Value("${user.email-filter.rebuild-interval-ms:600000}") long rebuildIntervalMillis) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.redisGuard = redisGuard;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.shared = shared;
+        this.rebuildIntervalMillis = rebuildIntervalMillis;
+        this.rebuildExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "registered-email-filter-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sharedLayout = shared ? new BloomFilter(expectedInsertions, falsePositiveProbability) : null;
+
+        this.filterRejections = Counter.builder("user.email-filter.rejections")
+                .description("DB 조회 없이 미가입으로 판별된 횟수")
+                .register(meterRegistry);
+        this.addFailures = Counter.builder("user.email-filter.add.failures")
+                .description("가입 이메일 필터 반영 실패 횟수 (다음 재구성에서 보정)")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        if (!shared) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(REGISTERED_CHANNEL));
+        }
+        rebuildExecutor.scheduleWithFixedDelay(this::rebuild, 0, rebuildIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    // false = 확실히 미가입, true = 가입됐을 수 있음 (DB 확인 필요)
+    public boolean mightContain(String email) {
+        String normalized = EmailAddresses.normalize(email);
+
+        if (shared) {
+            if (!sharedReady) {
+                return true;
+            }
+            // Redis 지연/장애 시 "가입됐을 수 있음" -> DB 조회로 판단
+            if (!redisGuard.read("email-filter.read", () -> sharedMightContain(normalized), () -> true)) {
+                filterRejections.increment();
+                return false;
+            }
+            return true;
+        }
+
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(normalized)) {
+            filterRejections.increment();
+            return false;
+        }
+        return true;
+    }
+
+    // 가입 커밋 후 호출, 실패해도 예외를 던지지 않음 (가입은 Redis 와 무관하게 완료)
+    // - 누락된 이메일은 다음 재구성 전까지 "미가입"으로 판별될 수 있음 -> 가입 시 unique 제약이 최종 보장
+    public void add(String email) {
+        String normalized = EmailAddresses.normalize(email);
+
+        try {
+            if (shared) {
+                sharedPut(SHARED_FILTER_KEY, List.of(normalized));
+                return;
+            }
+
+            putLocal(normalized);
+            stringRedisTemplate.convertAndSend(REGISTERED_CHANNEL, normalized);
+        } catch (Exception e) {
+            addFailures.increment();
+            log.warn("가입 이메일 필터 반영 실패 (다음 재구성에서 보정): {}", e.getMessage());
+        }
+    }
+
+    // 필터 재구성: 기동 시 적재 + 탈퇴 이메일 정리 + pub/sub 유실분 보정
+    void rebuild() {
+        if (shared) {
+            rebuildShared();
+        } else {
+            rebuildLocal();
+        }
+    }
+
+    private void rebuildLocal() {
+        BloomFilter rebuilt = new BloomFilter(expectedInsertions, falsePositiveProbability);
+        rebuildingFilter = rebuilt; // 재구성 중 들어온 가입도 새 필터에 반영
+
+        try {
+            long count = streamEmails(emails -> emails.forEach(email -> rebuilt.put(EmailAddresses.normalize(email))));
+            filter = rebuilt;
+            log.info("가입 이메일 필터 재구성 완료: {}건", count);
+        } catch (Exception e) {
+            // DB 조회 실패 시 필터를 신뢰할 수 없으므로 사용 중지
+            filter = null;
+            log.warn("가입 이메일 필터 재구성 실패: {}", e.getMessage());
+        } finally {
+            rebuildingFilter = null;
+        }
+    }
+
+    // 임시 키에 적재 후 RENAME 으로 교체 (재구성 중 가입은 양쪽 키에 기록)
+    // - DB 스트리밍 시작 전에 재구성 표시 + 임시 키 생성 -> 스트림 스냅샷 이후 가입도 임시 키에 반영
+    private void rebuildShared() {
+        // 한 노드만 재구성 (나머지는 기존 공유 필터 사용)
+        boolean acquired;
+        try {
+            acquired = Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                    .setIfAbsent(SHARED_REBUILD_LOCK_KEY, "1", SHARED_REBUILD_LOCK_TTL));
+            if (!acquired) {
+                sharedReady = Boolean.TRUE.equals(stringRedisTemplate.hasKey(SHARED_FILTER_KEY));
+                return;
+            }
+        } catch (Exception e) {
+            sharedReady = false;
+            log.warn("가입 이메일 공유 필터 상태 확인 실패: {}", e.getMessage());
+            return;
+        }
+
+        try {
+            stringRedisTemplate.delete(SHARED_REBUILD_KEY);
+            stringRedisTemplate.opsForValue().setBit(SHARED_REBUILD_KEY, 0, false); // 빈 비트맵으로 키 생성
+            // 표시 이전 가입은 DB 커밋이 스트리밍 시작보다 앞서므로 스트림에 포함됨
+            stringRedisTemplate.opsForValue().set(SHARED_REBUILDING_KEY, "1", SHARED_REBUILD_LOCK_TTL);
+
+            long count = streamEmails(emails -> {
+                List<String> batch = new ArrayList<>(SHARED_BATCH_SIZE);
+                emails.forEach(email -> {
+                    batch.add(EmailAddresses.normalize(email));
+                    if (batch.size() == SHARED_BATCH_SIZE) {
+                        sharedPut(SHARED_REBUILD_KEY, batch);
+                        batch.clear();
+                    }
+                });
+                sharedPut(SHARED_REBUILD_KEY, batch);
+            });
+
+            // 가입 0건이어도 재구성 중 가입이 있을 수 있으므로 항상 교체
+            stringRedisTemplate.rename(SHARED_REBUILD_KEY, SHARED_FILTER_KEY);
+            sharedReady = true;
+            log.info("가입 이메일 공유 필터 재구성 완료: {}건", count);
+        } catch (Exception e) {
+            sharedReady = false;
+            log.warn("가입 이메일 공유 필터 재구성 실패: {}", e.getMessage());
+        } finally {
+            try {
+                stringRedisTemplate.delete(List.of(SHARED_REBUILDING_KEY, SHARED_REBUILD_LOCK_KEY));
+            } catch (Exception e) {
+                log.warn("가입 이메일 공유 필터 잠금 해제 실패 (TTL 만료로 해제): {}", e.getMessage());
+            }
+        }
+    }
+
+    private long streamEmails(Consumer<Stream<String>> consumer) {
+        Long count = readOnlyTransaction.execute(status -> {
+            long[] counter = new long[1];
+            try (Stream<String> emails = userRepository.streamAllEmails()) {
+                consumer.accept(emails.peek(email -> counter[0]++));
+            }
+            return counter[0];
+        });
+        return count != null ? count : 0;
+    }
+
+    // 다른 노드의 가입 이벤트 수신 (정규화된 이메일)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        putLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void putLocal(String normalized) {
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(normalized);
+        }
+        BloomFilter rebuilding = rebuildingFilter;
+        if (rebuilding != null) {
+            rebuilding.put(normalized);
+        }
+    }
+
+    // Redis 비트맵에 SETBIT (pipeline 1회 왕복)
+    private void sharedPut(String key, List<String> normalizedEmails) {
+        if (normalizedEmails.isEmpty()) {
+            return;
+        }
+        List<String> keys = SHARED_FILTER_KEY.equals(key) && stringRedisTemplate.hasKey(SHARED_REBUILDING_KEY)
+                ? List.of(SHARED_FILTER_KEY, SHARED_REBUILD_KEY)
+                : List.of(key);
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String email : normalizedEmails) {
+                for (long index : sharedLayout.bitIndexes(email)) {
+                    for (String target : keys) {
+                        connection.stringCommands().setBit(target.getBytes(StandardCharsets.UTF_8), index, true);
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    // Redis 비트맵 GETBIT (pipeline 1회 왕복)
+    private boolean sharedMightContain(String normalized) {
+        long[] indexes = sharedLayout.bitIndexes(normalized);
+        byte[] key = SHARED_FILTER_KEY.getBytes(StandardCharsets.UTF_8);
+
+        List<Object> bits = stringRedisTemplate.executePipelined(
+                (RedisCallback<Object>) connection -> {
+                    for (long index : indexes) {
+                        connection.stringCommands().getBit(key, index);
+                    }
+                    return null;
+                });
+        return bits.stream().allMatch(Boolean.TRUE::equals);
+    }
+}
@@ -0,0 +1,318 @@
+package com.smooth.smooth_backend_user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.smooth.smooth_backend_user.config.VerifiedToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+// Redis JWT 블랙리스트 + 노드 로컬 near-cache
+// - 폐기된 토큰: 토큰 만료 시점까지 로컬 보관
+// - 폐기되지 않은 토큰: 짧은 TTL 동안만 로컬 보관 (pub/sub 유실 시 반영 지연 상한)
+// - 다른 노드의 폐기는 pub/sub 채널로 전달
+// - 사용자 단위 폐기는 "이 시각 이전 발급 토큰 무효" epoch 1개로 관리 (iat 비교)
+@Slf4j
+@Service
+public class TokenBlacklistService implements MessageListener {
+
+    public static final String BLACKLIST_CHANNEL = "blacklist:events";
+    public static final String REVOCATION_EPOCH_CHANNEL = "revoked_before:events";
+
+    private static final long NO_EPOCH = 0L;
+
+    private final RedisService redisService;
+    private final AsyncRedisService asyncRedisService;
+    private final RedisGuard redisGuard;
+    private final RedisFallbackStore redisFallbackStore;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final Cache<String, Long> revokedTokens;       // revocationId -> 토큰 만료시각 (epoch millis)
+    private final Cache<String, Boolean> notRevokedTokens; // revocationId -> 조회 결과 (negative cache)
+    private final Cache<Long, Long> revocationEpochs;      // userId -> 폐기 기준 시각 (epoch millis, 없으면 0)
+    private final long revocationEpochTtlInMilliseconds;
+
+    public TokenBlacklistService(RedisService redisService,
+                                 AsyncRedisService asyncRedisService,
+                                 RedisGuard redisGuard,
+                                 RedisFallbackStore redisFallbackStore,
+                                 RedisMessageListenerContainer listenerContainer,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${jwt.expiration}") long tokenValidityInMilliseconds,
+                                 @Value("${jwt.refresh-expiration}") long refreshValidityInMilliseconds,
+                                 @Value("${jwt.blacklist.maximum-size:100000}") long maximumSize,
+                                 @Value("${jwt.blacklist.negative-ttl-seconds:5}") long negativeTtlSeconds) {
+        this.redisService = redisService;
+        this.asyncRedisService = asyncRedisService;
+        this.redisGuard = redisGuard;
+        this.redisFallbackStore = redisFallbackStore;
+        this.listenerContainer = listenerContainer;
+        this.revocationEpochTtlInMilliseconds = Math.max(tokenValidityInMilliseconds, refreshValidityInMilliseconds);
+
+        this.revokedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ExpireAtTokenExpiration())
+                .recordStats()
+                .build();
+        this.notRevokedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(negativeTtlSeconds))
+                .recordStats()
+                .build();
+        this.revocationEpochs = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ExpireRevocationEpoch(tokenValidityInMilliseconds, negativeTtlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, revokedTokens, "jwt.blacklist.revoked");
+        CaffeineCacheMetrics.monitor(meterRegistry, notRevokedTokens, "jwt.blacklist.not-revoked");
+        CaffeineCacheMetrics.monitor(meterRegistry, revocationEpochs, "jwt.revocation-epoch");
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(BLACKLIST_CHANNEL));
+        listenerContainer.addMessageListener(this::onRevocationEpochMessage, new ChannelTopic(REVOCATION_EPOCH_CHANNEL));
+    }
+
+    // 사용자의 모든 토큰 폐기 (회원탈퇴, 비밀번호 변경)
+    public void revokeAllTokens(Long userId) {
+        // 기준 시각은 millis 그대로 저장 (리프레시 토큰은 millis 로 정확히 비교)
+        // 액세스 토큰 iat 는 초 단위 내림이므로 같은 초에 발급된 토큰은 폐기 쪽으로 판정됨 (isIssuedBefore)
+        long epochMillis = System.currentTimeMillis();
+
+        // 기존 토큰(리프레시 포함)은 최대 유효기간 이후 모두 만료되므로 그 이상 보관할 필요 없음
+        // 저장 + 전파를 1회 왕복으로 (pipeline)
+        redisService.setRevocationEpochAndPublish(userId, epochMillis, revocationEpochTtlInMilliseconds / 1000 + 1,
+                REVOCATION_EPOCH_CHANNEL, userId + ":" + epochMillis);
+        revocationEpochs.put(userId, epochMillis);
+    }
+
+    // 토큰 유효 여부 확인 (사용자 폐기 기준 시각 + 개별 블랙리스트)
+    public boolean isRevoked(VerifiedToken verifiedToken) {
+        return await(isRevokedAsync(verifiedToken));
+    }
+
+    // 두 조회 모두 Redis 왕복이 필요하면 동시에 전송 (왕복 1회 시간)
+    public CompletableFuture<Boolean> isRevokedAsync(VerifiedToken verifiedToken) {
+        CompletableFuture<Boolean> issuedBeforeEpoch =
+                isIssuedBeforeRevocationEpochAsync(verifiedToken.getUserId(), verifiedToken.getIssuedAt());
+        CompletableFuture<Boolean> blacklisted = isBlacklistedAsync(verifiedToken);
+        return issuedBeforeEpoch.thenCombine(blacklisted, (before, revoked) -> before || revoked);
+    }
+
+    // 사용자 전체 폐기 시각 이전에 발급되었는지 (액세스/리프레시 토큰 공통)
+    public boolean isIssuedBeforeRevocationEpoch(Long userId, long issuedAtMillis) {
+        return await(isIssuedBeforeRevocationEpochAsync(userId, issuedAtMillis));
+    }
+
+    private CompletableFuture<Boolean> isIssuedBeforeRevocationEpochAsync(Long userId, long issuedAtMillis) {
+        Long cached = revocationEpochs.getIfPresent(userId);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(isIssuedBefore(issuedAtMillis, cached));
+        }
+
+        // Redis 지연/장애 시 로컬 정보로만 판단 (pub/sub 으로 받은 기준 시각)
+        return redisGuard.read("revocation-epoch.read", asyncRedisService.getRevocationEpoch(userId), () -> NO_EPOCH)
+                .defaultIfEmpty(NO_EPOCH)
+                .toFuture()
+                .thenApply(epoch -> {
+                    // 조회 중 pub/sub 으로 더 최신 기준 시각이 들어왔으면 유지
+                    long epochMillis = revocationEpochs.asMap().merge(userId, epoch, Long::max);
+                    return isIssuedBefore(issuedAtMillis, epochMillis);
+                });
+    }
+
+    // 발급 시각이 기준 시각 이전(같은 시각 포함)이면 폐기
+    // - 액세스 토큰: iat 가 초 단위 내림이라 실제 발급 시각 >= iat -> 기준 시각과 같은 초에 발급된 토큰은 모두 폐기
+    // - 리프레시 토큰: 발급 millis 그대로 비교
+    private static boolean isIssuedBefore(long issuedAtMillis, long epochMillis) {
+        return epochMillis != NO_EPOCH && issuedAtMillis <= epochMillis;
+    }
+
+    // 폐기 여부 확인 (로컬 폐기 목록 -> negative cache -> Redis)
+    public boolean isBlacklisted(VerifiedToken verifiedToken) {
+        return await(isBlacklistedAsync(verifiedToken));
+    }
+
+    private CompletableFuture<Boolean> isBlacklistedAsync(VerifiedToken verifiedToken) {
+        String revocationId = verifiedToken.getRevocationId();
+
+        if (revokedTokens.getIfPresent(revocationId) != null) {
+            return CompletableFuture.completedFuture(true);
+        }
+
+        if (notRevokedTokens.getIfPresent(revocationId) != null) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        // Redis 지연/장애 시 로컬 폐기 목록으로만 판단 (위에서 확인 완료)
+        // jti 없는 기존 토큰은 원문 토큰 키(배포 전 폐기)도 함께 조회
+        return redisGuard.read("blacklist.read",
+                        asyncRedisService.isTokenBlacklisted(revocationId, verifiedToken.getLegacyRevocationId()),
+                        () -> false)
+                .defaultIfEmpty(false)
+                .toFuture()
+                .thenApply(blacklisted -> {
+                    if (blacklisted) {
+                        markRevoked(revocationId, verifiedToken.getExpiration());
+                    } else {
+                        notRevokedTokens.put(revocationId, Boolean.TRUE);
+                    }
+                    return blacklisted;
+                });
+    }
+
+    // 동기 호출부용: Redis 예외는 원래 예외로 전달
+    private static boolean await(CompletableFuture<Boolean> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 토큰 폐기: Redis 저장 + 로컬 반영 + 다른 노드에 전파
+    public void blacklist(VerifiedToken verifiedToken) {
+        long remainingTime = verifiedToken.getRemainingMillis();
+        if (remainingTime <= 0) {
+            return;
+        }
+
+        String revocationId = verifiedToken.getRevocationId();
+        markRevoked(revocationId, verifiedToken.getExpiration());
+
+        // 저장 + 전파를 1회 왕복으로 (pipeline), Redis 지연/장애 시 로컬에만 반영하고 복구 후 재기록
+        boolean stored = redisGuard.write("blacklist.write", () -> {
+            redisService.addToBlacklistAndPublish(revocationId, remainingTime / 1000,
+                    BLACKLIST_CHANNEL, verifiedToken.getExpiration() + ":" + revocationId);
+            return true;
+        }, () -> false);
+
+        if (!stored) {
+            redisFallbackStore.addPendingBlacklist(revocationId, verifiedToken.getExpiration());
+        }
+    }
+
+    // Redis 장애 중 로컬에만 반영된 폐기를 복구 후 재기록 + 다른 노드에 전파
+    @Scheduled(fixedDelayString = "${redis.guard.replay-interval-ms:5000}")
+    public void replayPendingBlacklist() {
+        if (!redisGuard.isClosed() || !redisFallbackStore.hasPendingBlacklist()) {
+            return;
+        }
+
+        try {
+            redisFallbackStore.drainPendingBlacklist((revocationId, expiration) -> {
+                long remainingSeconds = (expiration - System.currentTimeMillis()) / 1000;
+                if (remainingSeconds > 0) {
+                    redisService.addToBlacklistAndPublish(revocationId, remainingSeconds,
+                            BLACKLIST_CHANNEL, expiration + ":" + revocationId);
+                }
+            });
+        } catch (Exception e) {
+            log.warn("블랙리스트 재기록 실패, 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    // 다른 노드의 폐기 이벤트 수신 ("<exp millis>:<revocationId>")
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0) {
+            log.warn("잘못된 블랙리스트 이벤트: {}", body);
+            return;
+        }
+
+        try {
+            long expiration = Long.parseLong(body.substring(0, separator));
+            markRevoked(body.substring(separator + 1), expiration);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 블랙리스트 이벤트: {}", body);
+        }
+    }
+
+    // 다른 노드의 사용자 단위 폐기 이벤트 수신 ("<userId>:<epoch millis>")
+    private void onRevocationEpochMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+
+        try {
+            Long userId = Long.valueOf(body.substring(0, separator));
+            long epochMillis = Long.parseLong(body.substring(separator + 1));
+            revocationEpochs.asMap().merge(userId, epochMillis, Long::max);
+        } catch (RuntimeException e) {
+            log.warn("잘못된 토큰 폐기 이벤트: {}", body);
+        }
+    }
+
+    private void markRevoked(String revocationId, long expiration) {
+        revokedTokens.put(revocationId, expiration);
+        notRevokedTokens.invalidate(revocationId);
+    }
+
+    // 엔트리 수명 = 토큰 만료까지 남은 시간
+    private static class ExpireAtTokenExpiration implements Expiry<String, Long> {
+
+        @Override
+        public long expireAfterCreate(String key, Long expiration, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiration - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Long expiration, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, expiration, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Long expiration, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    // 폐기 기준 시각이 있으면 토큰 최대 유효기간 동안, 없으면 negative TTL 동안만 보관
+    private static class ExpireRevocationEpoch implements Expiry<Long, Long> {
+
+        private final long presentNanos;
+        private final long absentNanos;
+
+        ExpireRevocationEpoch(long tokenValidityInMilliseconds, long negativeTtlSeconds) {
+            this.presentNanos = TimeUnit.MILLISECONDS.toNanos(tokenValidityInMilliseconds);
+            this.absentNanos = TimeUnit.SECONDS.toNanos(negativeTtlSeconds);
+        }
+
+        @Override
+        public long expireAfterCreate(Long userId, Long epochMillis, long currentTime) {
+            return epochMillis == NO_EPOCH ? absentNanos : presentNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Long userId, Long epochMillis, long currentTime, long currentDuration) {
+            return expireAfterCreate(userId, epochMillis, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long userId, Long epochMillis, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.smooth.smooth_backend_user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smooth.smooth_backend_user.dto.response.UserProfileResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Function;
+
+// 회원 프로필 2단 캐시 (L1: 노드 로컬 Caffeine, L2: Redis 공유, Smile 직렬화)
+// - 조회: L1 -> L2 -> DB (같은 키 동시 조회는 L1 에서 1건으로 합쳐짐)
+// - 변경: 커밋 후 L2 에 짧은 tombstone 기록 + L1 삭제 + pub/sub 으로 다른 노드 L1 삭제
+// - tombstone 동안 L2 채우기(SET NX)가 막혀 변경 전 값을 읽던 요청이 L2 를 덮어쓰지 못함
+// - L1 TTL 은 pub/sub 유실 시 반영 지연 상한
+@Slf4j
+@Service
+public class UserProfileCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "user_profile:events";
+
+    private static final String KEY_PREFIX = "user_profile:";
+    private static final String TOMBSTONE = "invalidated";
+    private static final long TOMBSTONE_TTL_SECONDS = 5;
+
+    private final RedisService redisService;
+    private final RedisGuard redisGuard;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final Cache<Long, UserProfileResponseDto> localCache;
+    private final long redisTtlSeconds;
+
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Timer redisLoadTimer;
+    private final Timer databaseLoadTimer;
+
+    public UserProfileCache(RedisService redisService,
+                            RedisGuard redisGuard,
+                            StringRedisTemplate stringRedisTemplate,
+                            RedisMessageListenerContainer listenerContainer,
+                            MeterRegistry meterRegistry,
+                            @Value("${user.profile-cache.maximum-size:10000}") long maximumSize,
+                            @Value("${user.profile-cache.local-ttl-seconds:300}") long localTtlSeconds,
+                            @Value("${user.profile-cache.redis-ttl-seconds:1800}") long redisTtlSeconds) {
+        this.redisService = redisService;
+        this.redisGuard = redisGuard;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.redisTtlSeconds = redisTtlSeconds;
+
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "user.profile.local");
+
+        this.redisHits = Counter.builder("user.profile.redis")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.redisMisses = Counter.builder("user.profile.redis")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.redisLoadTimer = Timer.builder("user.profile.load")
+                .description("L1 미스 시 프로필 로딩 시간")
+                .tag("source", "redis")
+                .register(meterRegistry);
+        this.databaseLoadTimer = Timer.builder("user.profile.load")
+                .description("L1 미스 시 프로필 로딩 시간")
+                .tag("source", "database")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    public UserProfileResponseDto get(Long userId, Function<Long, UserProfileResponseDto> loader) {
+        return localCache.get(userId, id -> load(id, loader));
+    }
+
+    // 변경 트랜잭션 커밋 후 무효화 (롤백 시 유지)
+    public void invalidate(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        } else {
+            evict(userId);
+        }
+    }
+
+    private UserProfileResponseDto load(Long userId, Function<Long, UserProfileResponseDto> loader) {
+        String key = KEY_PREFIX + userId;
+
+        long start = System.nanoTime();
+        Object cached = redisGuard.read("user-profile.read", () -> redisService.getValue(key), () -> null);
+        if (cached instanceof UserProfileResponseDto profile) {
+            redisHits.increment();
+            redisLoadTimer.record(Duration.ofNanos(System.nanoTime() - start));
+            return profile;
+        }
+        redisMisses.increment();
+
+        UserProfileResponseDto profile = databaseLoadTimer.record(() -> loader.apply(userId));
+
+        // tombstone 이 있으면 채우지 않음 (직후 조회에서 다시 로딩)
+        if (!TOMBSTONE.equals(cached)) {
+            redisGuard.write("user-profile.write",
+                    () -> redisService.setValueIfAbsent(key, profile, redisTtlSeconds),
+                    () -> false);
+        }
+        return profile;
+    }
+
+    private void evict(Long userId) {
+        localCache.invalidate(userId);
+        try {
+            redisService.setValue(KEY_PREFIX + userId, TOMBSTONE, TOMBSTONE_TTL_SECONDS);
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, userId.toString());
+        } catch (Exception e) {
+            // 다른 노드는 L1 TTL 경과 후 반영
+            log.warn("프로필 캐시 무효화 전파 실패: 사용자 ID {} ({})", userId, e.getMessage());
+        }
+    }
+
+    // 다른 노드의 무효화 이벤트 수신 (userId)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            localCache.invalidate(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 프로필 캐시 무효화 이벤트: {}", body);
+        }
+    }
+}
@@ -4,32 +4,40 @@ import com.smooth.smooth_backend_user.dto.request.ChangePasswordRequestDto;
 import com.smooth.smooth_backend_user.dto.request.LoginRequestDto;
 import com.smooth.smooth_backend_user.dto.request.RegisterRequestDto;
 import com.smooth.smooth_backend_user.dto.request.UpdateEmergencyInfoRequestDto;
+import com.smooth.smooth_backend_user.dto.response.UserProfileResponseDto;
 import com.smooth.smooth_backend_user.entity.User;
 import com.smooth.smooth_backend_user.exception.AuthErrorCode;
 import com.smooth.smooth_backend_user.exception.UserErrorCode;
 import com.smooth.smooth_backend_user.global.exception.BusinessException;
 import com.smooth.smooth_backend_user.repository.UserRepository;
+import com.smooth.smooth_backend_user.repository.projection.UserCredentials;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 
+// 트랜잭션은 메서드 단위로 선언 (BCrypt 해싱 동안 DB 커넥션을 잡지 않도록 클래스 단위 @Transactional 미사용)
+// - 로그인/가입/비밀번호 변경: 조회와 쓰기만 짧은 트랜잭션, 해싱은 트랜잭션 밖에서 수행
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final TokenBlacklistService tokenBlacklistService;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final UserProfileCache userProfileCache;
+    private final TransactionTemplate transactionTemplate;
 
     private User createUserFromDto(RegisterRequestDto dto) {
         User user = new User();
         user.setEmail(dto.getEmail());
-        user.setPassword(passwordEncoder.encode(dto.getPassword()));
+        user.setPassword(passwordHashingService.encode(dto.getPassword()));
         user.setName(dto.getName());
         user.setPhone(dto.getPhone());
         user.setGender(dto.getGender());
@@ -48,13 +56,15 @@ public class UserService {
         return user;
     }
 
+    // 필터가 "확실히 미가입"이라고 판별하면 DB 조회 생략
     public boolean isEmailExists(String email) {
-        return userRepository.existsByEmail(email);
+        return registeredEmailFilter.mightContain(email) && userRepository.existsByEmail(email);
     }
 
+    // 해싱(createUserFromDto) 후 save 트랜잭션에서만 커넥션 사용
     public User register(RegisterRequestDto dto) {
         // 이메일 중복 체크
-        if (userRepository.existsByEmail(dto.getEmail())) {
+        if (isEmailExists(dto.getEmail())) {
             throw new BusinessException(AuthErrorCode.EMAIL_ALREADY_EXISTS);
         }
 
@@ -70,55 +80,82 @@ public class UserService {
 
         User user = createUserFromDto(dto);
 
+        User savedUser;
         try {
-            return userRepository.save(user);
+            savedUser = userRepository.save(user);
         } catch (Exception e) {
             log.error("회원가입 중 오류 발생: {}", dto.getEmail(), e);
             throw new BusinessException(AuthErrorCode.EMAIL_ALREADY_EXISTS, "회원가입 처리 중 오류가 발생했습니다.");
         }
 
+        // 커밋 후 필터 반영 (실패해도 가입은 완료, 다음 재구성에서 보정)
+        registeredEmailFilter.add(savedUser.getEmail());
+        return savedUser;
     }
 
-    public User login(LoginRequestDto dto) {
-        User user = userRepository.findByEmail(dto.getEmail())
+    // 조회/재해싱 UPDATE 는 각각 repository 트랜잭션, 비밀번호 검증은 커넥션 반환 후 수행
+    public UserCredentials login(LoginRequestDto dto) {
+        UserCredentials credentials = userRepository.findCredentialsByEmail(dto.getEmail())
                 .orElseThrow(() -> new BusinessException(AuthErrorCode.INVALID_CREDENTIALS));
 
         // 비밀번호 확인
-        if (!passwordEncoder.matches(dto.getPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(dto.getPassword(), credentials.password())) {
             throw new BusinessException(AuthErrorCode.INVALID_CREDENTIALS);
         }
 
-        return user;
+        // 이전 알고리즘/비용으로 저장된 해시는 현재 설정으로 재해싱 (비밀번호 컬럼만 갱신)
+        if (passwordHashingService.upgradeEncoding(credentials.password())) {
+            try {
+                userRepository.updatePassword(credentials.id(), passwordHashingService.encode(dto.getPassword()));
+                log.info("비밀번호 해시 갱신: 사용자 ID {}", credentials.id());
+            } catch (BusinessException e) {
+                // 해싱 대기열 초과 시 다음 로그인에서 재시도
+                log.warn("비밀번호 해시 갱신 보류: 사용자 ID {}", credentials.id());
+            }
+        }
+
+        return credentials;
     }
 
-    // 회원 정보 조회 (읽기 전용)
-    @Transactional(readOnly = true)
-    public User findById(Long id) {
-        return userRepository.findById(id)
-                .orElseThrow(() -> new BusinessException(UserErrorCode.USER_NOT_FOUND));
+    // 회원 프로필 조회 (L1 로컬 -> L2 Redis -> DB)
+    // 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행 (미스 시 repository 트랜잭션으로 조회)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserProfileResponseDto getProfile(Long id) {
+        return userProfileCache.get(id, userId -> userRepository.findProfileById(userId)
+                .orElseThrow(() -> new BusinessException(UserErrorCode.USER_NOT_FOUND)));
     }
 
-    // 사용자 삭제
+    // 사용자 삭제 + 기존에 발급된 모든 토큰 폐기 (폐기 실패 시 삭제 롤백)
+    @Transactional
     public void deleteAccount(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(UserErrorCode.USER_NOT_FOUND));
 
         try {
             userRepository.delete(user);
-            log.info("회원탈퇴 완료: 사용자 ID {}", userId);
+            userProfileCache.invalidate(userId);
+            // 가입 이메일 필터는 삭제 불가 -> 다음 재구성 전까지 DB 조회로 판별
         } catch (Exception e) {
             log.error("회원탈퇴 처리 중 오류 발생: 사용자 ID {}", userId, e);
             throw new BusinessException(UserErrorCode.USER_NOT_FOUND, "회원탈퇴 처리 중 오류가 발생했습니다.");
         }
+
+        tokenBlacklistService.revokeAllTokens(userId);
+        log.info("회원탈퇴 완료: 사용자 ID {}", userId);
     }
 
-    // 비밀번호 변경
+    // 탈퇴 여부 확인 (리프레시 토큰 재발급 시)
+    public boolean existsById(Long userId) {
+        return userRepository.existsById(userId);
+    }
+
+    // 비밀번호 변경 (비밀번호 컬럼만 조회/갱신, 검증/해싱은 트랜잭션 밖에서 수행)
     public void changePassword(Long userId, ChangePasswordRequestDto dto) {
-        User user = userRepository.findById(userId)
+        String currentPassword = userRepository.findPasswordById(userId)
                 .orElseThrow(() -> new BusinessException(UserErrorCode.USER_NOT_FOUND));
 
         // 현재 비밀번호 확인
-        if (!passwordEncoder.matches(dto.getCurrentPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(dto.getCurrentPassword(), currentPassword)) {
             throw new BusinessException(AuthErrorCode.CURRENT_PASSWORD_MISMATCH);
         }
 
@@ -127,28 +164,37 @@ public class UserService {
             throw new BusinessException(AuthErrorCode.PASSWORD_CONFIRMATION_MISMATCH);
         }
 
-        // 비밀번호 변경
-        user.setPassword(passwordEncoder.encode(dto.getNewPassword()));
-        userRepository.save(user);
+        String encodedPassword = passwordHashingService.encode(dto.getNewPassword());
+
+        // 비밀번호 변경 + 기존에 발급된 모든 토큰 폐기 (폐기 실패 시 변경 롤백)
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.changePassword(userId, encodedPassword, LocalDateTime.now());
+            userProfileCache.invalidate(userId);
+            tokenBlacklistService.revokeAllTokens(userId);
+        });
 
         log.info("비밀번호 변경 완료: 사용자 ID {}", userId);
     }
 
-    // 응급정보 수정
-    public User updateEmergencyInfo(Long userId, UpdateEmergencyInfoRequestDto dto) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(UserErrorCode.USER_NOT_FOUND));
-
-        // 응급정보 업데이트
-        user.setBloodType(dto.getBloodType());
-        user.setEmergencyContact1(dto.getEmergencyContact1());
-        user.setEmergencyContact2(dto.getEmergencyContact2());
-        user.setEmergencyContact3(dto.getEmergencyContact3());
+    // 응급정보 수정 (응급정보 컬럼만 UPDATE 후 갱신된 프로필 반환)
+    @Transactional
+    public UserProfileResponseDto updateEmergencyInfo(Long userId, UpdateEmergencyInfoRequestDto dto) {
+        int updated = userRepository.updateEmergencyInfo(
+                userId,
+                dto.getBloodType(),
+                dto.getEmergencyContact1(),
+                dto.getEmergencyContact2(),
+                dto.getEmergencyContact3(),
+                LocalDateTime.now()
+        );
+        if (updated == 0) {
+            throw new BusinessException(UserErrorCode.USER_NOT_FOUND);
+        }
 
-        User savedUser = userRepository.save(user);
+        userProfileCache.invalidate(userId);
         log.info("응급정보 수정 완료: 사용자 ID {}", userId);
 
-        return savedUser;
+        return userRepository.findProfileById(userId)
+                .orElseThrow(() -> new BusinessException(UserErrorCode.USER_NOT_FOUND));
     }
-
-}
\ No newline at end of file
+}
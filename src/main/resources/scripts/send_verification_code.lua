@@ -0,0 +1,29 @@
+-- 인증코드 발송 (발송 횟수 제한 + 코드 저장 + outbox 등록을 1회 왕복으로 원자 처리)
+-- KEYS[1]: 발송 횟수 제한 ZSET, KEYS[2]: 인증코드 키, KEYS[3]: email outbox 스트림
+-- ARGV[1]: 제한 윈도우 (millis), ARGV[2]: 윈도우 내 최대 발송 횟수
+-- ARGV[3]: 인증코드, ARGV[4]: 인증코드 만료 (초), ARGV[5]: 발송별 고유 member
+-- ARGV[6..]: outbox 레코드 field/value
+-- 반환: 0 = 발송 등록, 양수 = 다시 시도 가능할 때까지 남은 시간 (millis)
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local window = tonumber(ARGV[1])
+local limit = tonumber(ARGV[2])
+
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window)
+
+if redis.call('ZCARD', KEYS[1]) >= limit then
+    local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+    return math.max(1, tonumber(oldest[2]) + window - now)
+end
+
+redis.call('ZADD', KEYS[1], now, ARGV[5])
+redis.call('PEXPIRE', KEYS[1], window)
+
+redis.call('SET', KEYS[2], ARGV[3], 'EX', ARGV[4])
+
+local fields = {}
+for i = 6, #ARGV do
+    fields[#fields + 1] = ARGV[i]
+end
+redis.call('XADD', KEYS[3], '*', unpack(fields))
+return 0
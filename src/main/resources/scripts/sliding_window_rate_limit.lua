@@ -0,0 +1,19 @@
+-- 슬라이딩 윈도우 rate limit (원자적 1회 호출)
+-- KEYS[1]: 요청 시각 ZSET
+-- ARGV[1]: 윈도우 (millis), ARGV[2]: 윈도우 내 최대 허용 횟수, ARGV[3]: 요청별 고유 member
+-- 반환: 0 = 허용, 양수 = 다시 시도 가능할 때까지 남은 시간 (millis)
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local window = tonumber(ARGV[1])
+local limit = tonumber(ARGV[2])
+
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window)
+
+if redis.call('ZCARD', KEYS[1]) < limit then
+    redis.call('ZADD', KEYS[1], now, ARGV[3])
+    redis.call('PEXPIRE', KEYS[1], window)
+    return 0
+end
+
+local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+return math.max(1, tonumber(oldest[2]) + window - now)
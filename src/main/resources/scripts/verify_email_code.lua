@@ -0,0 +1,14 @@
+-- 인증코드 검증 (비교 + 코드 삭제를 1회 왕복으로 원자 처리)
+-- KEYS[1]: 인증코드 키
+-- ARGV[1]: 입력 코드
+-- 반환: -1 = 만료/없음, 0 = 불일치, 1 = 인증 성공
+local stored = redis.call('GET', KEYS[1])
+if not stored then
+    return -1
+end
+if stored ~= ARGV[1] then
+    return 0
+end
+
+redis.call('DEL', KEYS[1])
+return 1
@@ -0,0 +1,85 @@
+package com.smooth.smooth_backend_user.config;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderKeyRotationTest {
+
+    private static final String OLD_SECRET = "old-secret-old-secret-old-secret-old-secret";
+    private static final String NEW_SECRET = "new-secret-new-secret-new-secret-new-secret";
+    private static final String OTHER_SECRET = "other-secret-other-secret-other-secret-other";
+    private static final long VALIDITY = 60_000L;
+
+    @Test
+    void 다음_키로_발급된_토큰은_교체_전_노드에서도_검증된다() {
+        JwtTokenProvider rotated = provider(NEW_SECRET, List.of(), List.of(OLD_SECRET));
+        JwtTokenProvider notYetRotated = provider(OLD_SECRET, List.of(NEW_SECRET), List.of());
+
+        String token = rotated.createToken(1L, "user@smooth.com");
+
+        assertThat(notYetRotated.verifyToken(token)).isPresent();
+    }
+
+    @Test
+    void 교체된_키로_발급된_토큰은_만료_전까지_검증된다() {
+        JwtTokenProvider beforeRotation = provider(OLD_SECRET, List.of(NEW_SECRET), List.of());
+        JwtTokenProvider afterRotation = provider(NEW_SECRET, List.of(), List.of(OLD_SECRET));
+
+        String token = beforeRotation.createToken(1L, "user@smooth.com");
+
+        assertThat(afterRotation.verifyToken(token)).isPresent();
+    }
+
+    @Test
+    void kid_없는_기존_토큰은_교체된_키로도_검증된다() {
+        JwtTokenProvider afterRotation = provider(NEW_SECRET, List.of(), List.of(OLD_SECRET));
+
+        String token = kidlessToken(OLD_SECRET);
+
+        assertThat(afterRotation.verifyToken(token))
+                .hasValueSatisfying(verified -> assertThat(verified.getUserId()).isEqualTo(1L));
+        assertThat(afterRotation.getUserId(token)).isEqualTo(1L);
+    }
+
+    @Test
+    void 키_링에_없는_키로_서명된_토큰은_거부된다() {
+        JwtTokenProvider provider = provider(NEW_SECRET, List.of(), List.of(OLD_SECRET));
+
+        assertThat(provider.verifyToken(kidlessToken(OTHER_SECRET))).isEmpty();
+        assertThat(provider.verifyToken(provider(OTHER_SECRET, List.of(), List.of()).createToken(1L, "user@smooth.com")))
+                .isEmpty();
+    }
+
+    @Test
+    void 다음_키는_서명에_사용되지_않는다() {
+        JwtTokenProvider provider = provider(OLD_SECRET, List.of(NEW_SECRET), List.of());
+        JwtTokenProvider newOnly = provider(NEW_SECRET, List.of(), List.of());
+
+        String token = provider.createToken(1L, "user@smooth.com");
+
+        assertThat(newOnly.verifyToken(token)).isEmpty();
+    }
+
+    private static JwtTokenProvider provider(String secret, List<String> nextSecrets, List<String> retiredSecrets) {
+        return new JwtTokenProvider(secret, nextSecrets, retiredSecrets, VALIDITY, VALIDITY);
+    }
+
+    // 키 링 도입 전 형식 (kid 헤더 없음)
+    private static String kidlessToken(String secret) {
+        Date now = new Date();
+        return Jwts.builder()
+                .setSubject("1")
+                .claim("email", "user@smooth.com")
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + VALIDITY))
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
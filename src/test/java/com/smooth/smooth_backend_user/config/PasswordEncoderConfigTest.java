@@ -0,0 +1,62 @@
+package com.smooth.smooth_backend_user.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordEncoderConfigTest {
+
+    private static final String PASSWORD = "password1!";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(PasswordEncoderConfig.class)
+            .withPropertyValues("password.encoder.algorithm=pbkdf2");
+
+    @Test
+    void pbkdf2_해시_id_에_반복_횟수가_포함된다() {
+        contextRunner.withPropertyValues("password.encoder.pbkdf2-iterations=1000")
+                .run(context -> assertThat(context.getBean(PasswordEncoder.class).encode(PASSWORD))
+                        .startsWith("{pbkdf2@1000}"));
+    }
+
+    @Test
+    void 반복_횟수를_바꿔도_이전_해시는_검증되고_재해싱_대상이다() {
+        String[] encoded = new String[1];
+        contextRunner.withPropertyValues("password.encoder.pbkdf2-iterations=1000")
+                .run(context -> encoded[0] = context.getBean(PasswordEncoder.class).encode(PASSWORD));
+
+        contextRunner.withPropertyValues(
+                        "password.encoder.pbkdf2-iterations=2000",
+                        "password.encoder.pbkdf2-previous-iterations=1000")
+                .run(context -> {
+                    PasswordEncoder passwordEncoder = context.getBean(PasswordEncoder.class);
+                    assertThat(passwordEncoder.matches(PASSWORD, encoded[0])).isTrue();
+                    assertThat(passwordEncoder.upgradeEncoding(encoded[0])).isTrue();
+                    assertThat(passwordEncoder.upgradeEncoding(passwordEncoder.encode(PASSWORD))).isFalse();
+                });
+    }
+
+    @Test
+    void 반복_횟수_없는_기존_pbkdf2_해시는_legacy_반복_횟수로_검증된다() {
+        String legacy = "{pbkdf2}" + new Pbkdf2PasswordEncoder("", 16, 1000,
+                Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256).encode(PASSWORD);
+
+        contextRunner.withPropertyValues(
+                        "password.encoder.pbkdf2-iterations=2000",
+                        "password.encoder.pbkdf2-legacy-iterations=1000")
+                .run(context -> {
+                    PasswordEncoder passwordEncoder = context.getBean(PasswordEncoder.class);
+                    assertThat(passwordEncoder.matches(PASSWORD, legacy)).isTrue();
+                    assertThat(passwordEncoder.upgradeEncoding(legacy)).isTrue();
+                });
+    }
+
+    @Test
+    void pbkdf2_는_calibrate_시_기동에_실패한다() {
+        contextRunner.withPropertyValues("password.encoder.calibrate=true")
+                .run(context -> assertThat(context).hasFailed());
+    }
+}
@@ -0,0 +1,305 @@
+package com.smooth.smooth_backend_user.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smooth.smooth_backend_user.config.JwtTokenProvider;
+import com.smooth.smooth_backend_user.dto.response.UserProfileResponseDto;
+import com.smooth.smooth_backend_user.entity.User;
+import com.smooth.smooth_backend_user.global.exception.GlobalExceptionHandler;
+import com.smooth.smooth_backend_user.global.sql.SqlStatistics;
+import com.smooth.smooth_backend_user.global.sql.SqlStatisticsTestConfig;
+import com.smooth.smooth_backend_user.repository.UserRepository;
+import com.smooth.smooth_backend_user.service.EmailOutboxService;
+import com.smooth.smooth_backend_user.service.EmailVerificationService;
+import com.smooth.smooth_backend_user.service.PasswordHashingService;
+import com.smooth.smooth_backend_user.service.RedisGuard;
+import com.smooth.smooth_backend_user.service.RedisService;
+import com.smooth.smooth_backend_user.service.RefreshTokenService;
+import com.smooth.smooth_backend_user.service.RegisteredEmailFilter;
+import com.smooth.smooth_backend_user.service.TokenBlacklistService;
+import com.smooth.smooth_backend_user.service.UserProfileCache;
+import com.smooth.smooth_backend_user.service.UserService;
+import com.smooth.smooth_backend_user.service.UserVehicleService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+// 엔드포인트별 SQL 실행 건수 예산 (./gradlew test -> 예산 초과 시 실패)
+// - 실제 컨트롤러/서비스/리포지토리 + H2 (MySQL 모드), StatementCountingDataSource 로 HTTP 요청 1건 단위 집계
+// - Redis/메일/토큰 저장소는 mock (SQL 경로만 검사), 프로필 캐시는 항상 미스 (DB 조회 경로)
+// - 예산은 "최대 SQL 건수" -> N+1, 추가 lazy 로딩, 불필요한 재조회가 생기면 실패
+// - 시나리오는 순서대로 상태를 이어감 (가입 -> 로그인 -> 수정 -> 차량 연동/해제 -> 탈퇴)
+//   요청마다 커밋되도록 테스트 트랜잭션은 끔
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:endpoint-sql-budget;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Import({SqlStatisticsTestConfig.class, EndpointSqlBudgetTest.MockConfig.class,
+        UserService.class, UserVehicleService.class, EmailVerificationService.class,
+        AuthController.class, UserController.class, UserVehicleController.class})
+class EndpointSqlBudgetTest {
+
+    private static final String JWT_SECRET = "sql-budget-secret-key-sql-budget-secret-key-0123456789";
+    private static final String USER_EMAIL = "user1@smooth.com";
+    private static final String USER_PASSWORD = "password1!";
+    private static final String NEW_EMAIL = "new@smooth.com";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private SqlStatistics statistics;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private AuthController authController;
+
+    @Autowired
+    private UserController userController;
+
+    @Autowired
+    private UserVehicleController userVehicleController;
+
+    private MockMvc mockMvc;
+    private Long userId;
+
+    @BeforeAll
+    void setUp() {
+        userId = seedUser();
+        when(refreshTokenService.consume(anyString()))
+                .thenReturn(new RefreshTokenService.RefreshTokenOwner(userId, USER_EMAIL));
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(userId.toString(), null, List.of()));
+
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(authController, userController, userVehicleController, new TestController())
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @AfterAll
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    Stream<Arguments> budgets() throws Exception {
+        return Stream.of(
+                // existsByEmail
+                budget(1, get("/api/auth/check-email").param("email", NEW_EMAIL)),
+                // existsByEmail (코드 저장/발송 요청은 Redis)
+                budget(1, json(post("/api/auth/send-verification"), Map.of("email", NEW_EMAIL))),
+                budget(0, json(post("/api/auth/verify-email"), Map.of("email", NEW_EMAIL, "code", "12345"))),
+                // existsByEmail + INSERT
+                budget(2, json(post("/api/auth/register"), registerRequest())),
+                // 인증 정보 프로젝션 1건
+                budget(1, json(post("/api/auth/login"), Map.of("email", USER_EMAIL, "password", USER_PASSWORD))),
+                // 사용자 존재 확인
+                budget(1, json(post("/api/auth/refresh"), Map.of("refreshToken", "refresh-token"))),
+                budget(0, post("/api/auth/logout")
+                        .header("Authorization", "Bearer " + jwtTokenProvider.createToken(userId, USER_EMAIL))),
+                budget(0, get("/api/test/protected")),
+                // 프로필 프로젝션 1건 (캐시 미스)
+                budget(1, get("/api/user/profile")),
+                budget(1, get("/api/user/me")),
+                // 비밀번호 조회 + UPDATE
+                budget(2, json(put("/api/user/password"), Map.of(
+                        "currentPassword", USER_PASSWORD,
+                        "newPassword", "password2!",
+                        "confirmPassword", "password2!"))),
+                // UPDATE + 프로필 재조회
+                budget(2, json(put("/api/user/emergency-info"), Map.of(
+                        "bloodType", "B",
+                        "emergencyContact1", "010-2222-3333"))),
+                // 사용자 조회 + 연동 여부 + 차량 조회 + 차량 INSERT + 연동 INSERT
+                budget(5, json(post("/api/vehicle"), Map.of("plateNumber", "12가3456", "imei", "350000000000001"))),
+                // 연동 조회 + fromUserVehicle 의 vehicle/user lazy 로딩 2건
+                budget(3, get("/api/vehicle")),
+                // 연동 조회 + 차량 로딩 + 차량의 연동 목록 로딩 + 연동 DELETE + 잔여 연동 확인 + 차량 DELETE
+                budget(6, delete("/api/vehicle")),
+                // 사용자 조회 + DELETE
+                budget(2, delete("/api/auth/account"))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("budgets")
+    void staysWithinSqlBudget(String endpoint, int maxStatements, MockHttpServletRequestBuilder request) throws Exception {
+        statistics.reset();
+        MockHttpServletResponse response = mockMvc.perform(request).andReturn().getResponse();
+        SqlStatistics.Snapshot snapshot = statistics.snapshot();
+
+        // 실패 응답은 SQL 이 적게 나가 예산을 통과할 수 있으므로 상태 코드부터 확인
+        assertThat(response.getStatus())
+                .as("%s 응답: %s", endpoint, response.getContentAsString())
+                .isLessThan(400);
+        assertThat(snapshot.statements())
+                .as("%s SQL 실행 건수 (rows=%d, %.2fms)", endpoint, snapshot.rows(), snapshot.elapsedMillis())
+                .isLessThanOrEqualTo(maxStatements);
+    }
+
+    private Long seedUser() {
+        User user = new User();
+        user.setEmail(USER_EMAIL);
+        user.setPassword(passwordEncoder.encode(USER_PASSWORD));
+        user.setName("사용자");
+        user.setPhone("010-1234-5678");
+        user.setGender(User.Gender.MALE);
+        user.setBloodType(User.BloodType.A);
+        user.setEmergencyContact1("010-1111-2222");
+        user.setTermsOfServiceAgreed(true);
+        user.setPrivacyPolicyAgreed(true);
+        user.setTermsAgreedAt(LocalDateTime.now());
+        return userRepository.save(user).getId();
+    }
+
+    private Map<String, Object> registerRequest() {
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("email", NEW_EMAIL);
+        request.put("registrationTicket", jwtTokenProvider.createRegistrationTicket(NEW_EMAIL));
+        request.put("password", "password1!");
+        request.put("name", "신규");
+        request.put("phone", "010-9876-5432");
+        request.put("gender", "FEMALE");
+        request.put("termsOfServiceAgreed", true);
+        request.put("privacyPolicyAgreed", true);
+        return request;
+    }
+
+    private MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder request, Map<String, ?> body) throws Exception {
+        return request.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(body));
+    }
+
+    private static Arguments budget(int maxStatements, MockHttpServletRequestBuilder request) {
+        MockHttpServletRequest built = request.buildRequest(new MockServletContext());
+        return Arguments.of(built.getMethod() + " " + built.getRequestURI(), maxStatements, request);
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class MockConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder(4);
+        }
+
+        @Bean
+        PasswordHashingService passwordHashingService(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry) {
+            return new PasswordHashingService(passwordEncoder, meterRegistry, 1, 64, 2000);
+        }
+
+        @Bean
+        JwtTokenProvider jwtTokenProvider() {
+            return new JwtTokenProvider(JWT_SECRET, 3_600_000L);
+        }
+
+        @Bean
+        RedisGuard redisGuard(MeterRegistry meterRegistry) {
+            return new RedisGuard(meterRegistry, 5, 5000, 50, 200, 16, 256);
+        }
+
+        // 인증코드 스크립트: 검증은 일치(1), 발송은 제한 미초과(0)
+        @Bean
+        RedisService redisService() {
+            RedisService service = mock(RedisService.class);
+            when(service.executeScript(any(), anyList(), any(String[].class))).thenAnswer(invocation -> {
+                List<String> keys = invocation.getArgument(1);
+                return keys.get(0).startsWith("email_verification:") ? 1L : 0L;
+            });
+            return service;
+        }
+
+        @Bean
+        EmailOutboxService emailOutboxService() {
+            return mock(EmailOutboxService.class);
+        }
+
+        @Bean
+        TokenBlacklistService tokenBlacklistService() {
+            return mock(TokenBlacklistService.class);
+        }
+
+        // 소비 결과(시드 사용자)는 setUp 에서 지정
+        @Bean
+        RefreshTokenService refreshTokenService() {
+            return mock(RefreshTokenService.class);
+        }
+
+        // 필터가 항상 "가입됐을 수 있음" -> existsByEmail 이 매번 실행되는 최악 경로
+        @Bean
+        RegisteredEmailFilter registeredEmailFilter() {
+            RegisteredEmailFilter filter = mock(RegisteredEmailFilter.class);
+            when(filter.mightContain(anyString())).thenReturn(true);
+            return filter;
+        }
+
+        // 항상 캐시 미스 -> loader (DB 조회) 실행
+        @Bean
+        UserProfileCache userProfileCache() {
+            UserProfileCache cache = mock(UserProfileCache.class);
+            when(cache.get(anyLong(), any())).thenAnswer(invocation -> {
+                Function<Long, UserProfileResponseDto> loader = invocation.getArgument(1);
+                return loader.apply(invocation.getArgument(0));
+            });
+            return cache;
+        }
+    }
+}
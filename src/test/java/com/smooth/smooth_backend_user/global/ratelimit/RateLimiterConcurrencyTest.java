@@ -0,0 +1,97 @@
+package com.smooth.smooth_backend_user.global.ratelimit;
+
+import com.smooth.smooth_backend_user.service.RedisGuard;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 동시 요청에서도 윈도우 내 허용 건수가 limit 를 넘지 않는지 (실제 Redis 에서 Lua 원자성 확인)
+@Testcontainers(disabledWithoutDocker = true)
+class RateLimiterConcurrencyTest {
+
+    private static final int LIMIT = 10;
+    private static final int THREADS = 16;
+    private static final int REQUESTS = 200;
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+    private static RedisGuard redisGuard;
+    private static RateLimiter rateLimiter;
+
+    @BeforeAll
+    static void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        // 동시 요청이 예산 초과로 fallback 되지 않도록 넉넉한 예산
+        redisGuard = new RedisGuard(new SimpleMeterRegistry(), 5, 5000, 1000, 1000, THREADS, REQUESTS);
+        rateLimiter = new RateLimiter(stringRedisTemplate, redisGuard);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        redisGuard.shutdown();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void 동시_요청에서도_limit_건만_허용한다() throws Exception {
+        String key = "test:" + UUID.randomUUID();
+
+        List<RateLimitResult> results = acquireConcurrently(key);
+
+        assertThat(results).filteredOn(RateLimitResult::allowed).hasSize(LIMIT);
+        assertThat(results).filteredOn(result -> !result.allowed())
+                .allSatisfy(result -> assertThat(result.retryAfterMillis()).isPositive());
+        assertThat(stringRedisTemplate.opsForZSet().zCard(RateLimiter.redisKey(key))).isEqualTo(LIMIT);
+    }
+
+    private static List<RateLimitResult> acquireConcurrently(String key) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<RateLimitResult>> futures = new ArrayList<>(REQUESTS);
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return rateLimiter.tryAcquire(key, LIMIT, Duration.ofMinutes(1), RateLimited.FailMode.CLOSED);
+                }));
+            }
+            start.countDown();
+
+            List<RateLimitResult> results = new ArrayList<>(REQUESTS);
+            for (Future<RateLimitResult> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
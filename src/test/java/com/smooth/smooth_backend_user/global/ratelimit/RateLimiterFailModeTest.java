@@ -0,0 +1,65 @@
+package com.smooth.smooth_backend_user.global.ratelimit;
+
+import com.smooth.smooth_backend_user.service.RedisGuard;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Redis 장애 시 failMode 에 따른 동작
+class RateLimiterFailModeTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(60);
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final RedisGuard redisGuard = new RedisGuard(new SimpleMeterRegistry(), 5, 5000, 50, 200, 2, 16);
+    private final RateLimiter rateLimiter = new RateLimiter(stringRedisTemplate, redisGuard);
+
+    @AfterEach
+    void tearDown() {
+        redisGuard.shutdown();
+    }
+
+    @Test
+    void fail_open_은_Redis_장애시_허용한다() {
+        redisDown();
+
+        RateLimitResult result = rateLimiter.tryAcquire("login:user@smooth.com", 10, WINDOW, RateLimited.FailMode.OPEN);
+
+        assertThat(result.allowed()).isTrue();
+    }
+
+    @Test
+    void fail_closed_는_Redis_장애시_윈도우만큼_거부한다() {
+        redisDown();
+
+        RateLimitResult result = rateLimiter.tryAcquire("login:user@smooth.com", 10, WINDOW, RateLimited.FailMode.CLOSED);
+
+        assertThat(result.allowed()).isFalse();
+        assertThat(result.retryAfterSeconds()).isEqualTo(WINDOW.toSeconds());
+    }
+
+    @Test
+    void 요청마다_다른_member_를_만든다() {
+        List<String> members = List.of(RateLimiter.uniqueMember(), RateLimiter.uniqueMember(), RateLimiter.uniqueMember());
+
+        assertThat(members).doesNotHaveDuplicates();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void redisDown() {
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+    }
+}
@@ -0,0 +1,40 @@
+package com.smooth.smooth_backend_user.global.sql;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// StatementCountingDataSource 가 집계하는 SQL 실행 통계 (요청/테스트 시작 시 reset)
+// - statements: execute* 호출 수 (배치는 건별)
+// - rows: ResultSet 으로 읽은 행 + executeUpdate 로 변경된 행
+// - elapsed: execute* 호출 시간 합계 (ResultSet 순회 시간 제외)
+public class SqlStatistics {
+
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder elapsedNanos = new LongAdder();
+
+    public void reset() {
+        statements.reset();
+        rows.reset();
+        elapsedNanos.reset();
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(statements.sum(), rows.sum(), elapsedNanos.sum());
+    }
+
+    void recordStatements(long count, long nanos) {
+        statements.add(count);
+        elapsedNanos.add(nanos);
+    }
+
+    void recordRows(long count) {
+        rows.add(count);
+    }
+
+    public record Snapshot(long statements, long rows, long elapsedNanos) {
+
+        public double elapsedMillis() {
+            return elapsedNanos / 1_000_000.0;
+        }
+    }
+}
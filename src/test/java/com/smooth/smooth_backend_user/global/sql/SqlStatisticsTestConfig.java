@@ -0,0 +1,32 @@
+package com.smooth.smooth_backend_user.global.sql;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+// 테스트 컨텍스트의 DataSource 를 StatementCountingDataSource 로 감싸 SQL 실행 통계 수집
+// - 사용: @Import(SqlStatisticsTestConfig.class) 후 SqlStatistics 주입, 측정 구간 시작 시 reset
+@TestConfiguration(proxyBeanMethods = false)
+public class SqlStatisticsTestConfig {
+
+    @Bean
+    SqlStatistics sqlStatistics() {
+        return new SqlStatistics();
+    }
+
+    @Bean
+    static BeanPostProcessor statementCountingDataSourcePostProcessor(ObjectProvider<SqlStatistics> statistics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)) {
+                    return new StatementCountingDataSource(dataSource, statistics.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,133 @@
+package com.smooth.smooth_backend_user.global.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// SQL 실행 건수/행 수/시간을 집계하는 DataSource 프록시 (테스트 전용, SqlStatisticsTestConfig 로 등록)
+// - Connection -> Statement -> ResultSet 을 JDK 동적 프록시로 감싸 execute* 와 next() 만 가로챔
+// - Hibernate/Spring Data/JdbcTemplate 모두 이 DataSource 를 거치므로 호출 경로와 관계없이 집계됨
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    private final SqlStatistics statistics;
+
+    public StatementCountingDataSource(DataSource targetDataSource, SqlStatistics statistics) {
+        super(targetDataSource);
+        this.statistics = statistics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (method, invocation) -> {
+            Object result = invocation.proceed();
+            if (result instanceof CallableStatement statement) {
+                return wrapStatement(CallableStatement.class, statement);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return wrapStatement(PreparedStatement.class, statement);
+            }
+            if (result instanceof Statement statement) {
+                return wrapStatement(Statement.class, statement);
+            }
+            return result;
+        });
+    }
+
+    private <S extends Statement> S wrapStatement(Class<S> type, S statement) {
+        return proxy(type, statement, (method, invocation) -> {
+            String name = method.getName();
+            if ("getResultSet".equals(name)) {
+                return wrapResultSet((ResultSet) invocation.proceed());
+            }
+            if (!name.startsWith("execute")) {
+                return invocation.proceed();
+            }
+
+            long start = System.nanoTime();
+            Object result = invocation.proceed();
+            long elapsed = System.nanoTime() - start;
+
+            if (result instanceof int[] batch) {
+                statistics.recordStatements(batch.length, elapsed);
+                return result;
+            }
+            if (result instanceof long[] batch) {
+                statistics.recordStatements(batch.length, elapsed);
+                return result;
+            }
+
+            statistics.recordStatements(1, elapsed);
+            if (result instanceof ResultSet resultSet) {
+                return wrapResultSet(resultSet);
+            }
+            if (result instanceof Integer updated && updated > 0) {
+                statistics.recordRows(updated);
+            } else if (result instanceof Long updated && updated > 0) {
+                statistics.recordRows(updated);
+            }
+            return result;
+        });
+    }
+
+    private ResultSet wrapResultSet(ResultSet resultSet) {
+        if (resultSet == null) {
+            return null;
+        }
+        return proxy(ResultSet.class, resultSet, (method, invocation) -> {
+            Object result = invocation.proceed();
+            if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                statistics.recordRows(1);
+            }
+            return result;
+        });
+    }
+
+    // equals/hashCode 는 프록시 기준 (Hibernate 가 Statement 를 Map 키로 관리)
+    private <T> T proxy(Class<T> type, T target, Interceptor interceptor) {
+        return type.cast(Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> interceptor.intercept(method, () -> invoke(target, method, args));
+                }));
+    }
+
+    // 원래 SQLException 을 그대로 전달
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Interceptor {
+        Object intercept(Method method, Invocation invocation) throws Throwable;
+    }
+
+    @FunctionalInterface
+    private interface Invocation {
+        Object proceed() throws Throwable;
+    }
+}
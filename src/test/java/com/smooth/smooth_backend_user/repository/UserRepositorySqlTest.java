@@ -0,0 +1,97 @@
+package com.smooth.smooth_backend_user.repository;
+
+import com.smooth.smooth_backend_user.entity.User;
+import com.smooth.smooth_backend_user.entity.UserVehicle;
+import com.smooth.smooth_backend_user.entity.Vehicle;
+import com.smooth.smooth_backend_user.global.sql.SqlStatistics;
+import com.smooth.smooth_backend_user.global.sql.SqlStatisticsTestConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// User 조회 경로가 SQL 1건만 실행하는지 회귀 검사
+// - User 쪽 연관관계 매핑(@OneToOne mappedBy 등)이 추가되면 조회마다 user_vehicle SELECT 가 붙음
+// - 차량 연동된 사용자로 검사 (연동 여부와 관계없이 추가 조회가 없어야 함)
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:user-repository-sql;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(SqlStatisticsTestConfig.class)
+class UserRepositorySqlTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private SqlStatistics statistics;
+
+    private User linkedUser;
+
+    @BeforeEach
+    void setUp() {
+        entityManager.persist(user("user0@smooth.com"));
+        linkedUser = entityManager.persist(user("user1@smooth.com"));
+        Vehicle vehicle = Vehicle.createVehicle("12가3456", "350000000000001");
+        UserVehicle.createUserVehicle(linkedUser, vehicle);
+        entityManager.persist(vehicle);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    static Stream<Arguments> readPaths() {
+        return Stream.of(
+                readPath("findById", (repository, user) -> repository.findById(user.getId())),
+                readPath("findByEmail", (repository, user) -> repository.findByEmail(user.getEmail())),
+                readPath("findCredentialsByEmail",
+                        (repository, user) -> repository.findCredentialsByEmail(user.getEmail())),
+                readPath("findProfileById", (repository, user) -> repository.findProfileById(user.getId())),
+                readPath("findPasswordById", (repository, user) -> repository.findPasswordById(user.getId()))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("readPaths")
+    void loadsUserWithSingleStatement(String path, BiFunction<UserRepository, User, Optional<?>> query) {
+        statistics.reset();
+
+        Optional<?> result = query.apply(userRepository, linkedUser);
+
+        assertThat(result).as(path).isPresent();
+        assertThat(statistics.snapshot().statements()).as("%s SQL 실행 건수", path).isEqualTo(1);
+    }
+
+    private static Arguments readPath(String path, BiFunction<UserRepository, User, Optional<?>> query) {
+        return Arguments.of(path, query);
+    }
+
+    private static User user(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z1Z5Lx0p6q7y8x9wK1mN2oPq");
+        user.setName("사용자");
+        user.setPhone("010-1234-5678");
+        user.setGender(User.Gender.MALE);
+        user.setBloodType(User.BloodType.A);
+        user.setEmergencyContact1("010-1111-2222");
+        user.setTermsOfServiceAgreed(true);
+        user.setPrivacyPolicyAgreed(true);
+        user.setTermsAgreedAt(LocalDateTime.now());
+        return user;
+    }
+}
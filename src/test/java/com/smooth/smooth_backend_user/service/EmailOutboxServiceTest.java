@@ -0,0 +1,183 @@
+package com.smooth.smooth_backend_user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.domain.Range;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// outbox 워커 발송/재시도/회수 (Redis 는 mock, SMTP 는 GreenMail)
+class EmailOutboxServiceTest {
+
+    private static final long VISIBILITY_TIMEOUT_MILLIS = 60_000;
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final StreamOperations<String, Object, Object> streamOperations = mock(StreamOperations.class);
+    @SuppressWarnings("unchecked")
+    private final ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+
+    private GreenMail smtpServer;
+    private PooledMailSender pooledMailSender;
+    private EmailOutboxService outboxService;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(streamOperations).when(stringRedisTemplate).opsForStream();
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+        smtpServer = new GreenMail(ServerSetupTest.SMTP.dynamicPort());
+        smtpServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (outboxService != null) {
+            outboxService.stop();
+        }
+        if (pooledMailSender != null) {
+            pooledMailSender.closeAll();
+        }
+        smtpServer.stop();
+    }
+
+    @Test
+    void 등록된_메일을_워커가_발송하고_ACK_한다() throws Exception {
+        RecordId recordId = RecordId.of("1-0");
+        readOnce(record(recordId, "user@smooth.com", "0"));
+
+        startOutbox(smtpServer.getSmtp().getPort());
+
+        assertThat(smtpServer.waitForIncomingEmail(5_000, 1)).isTrue();
+        MimeMessage received = smtpServer.getReceivedMessages()[0];
+        assertThat(received.getAllRecipients()[0].toString()).isEqualTo("user@smooth.com");
+        verify(streamOperations, timeout(5_000)).acknowledge(EmailOutboxService.OUTBOX_KEY,
+                EmailOutboxService.CONSUMER_GROUP, recordId);
+    }
+
+    @Test
+    void SMTP_실패시_증가된_시도_횟수로_재시도를_예약한다() throws Exception {
+        RecordId recordId = RecordId.of("1-0");
+        readOnce(record(recordId, "user@smooth.com", "0"));
+
+        startOutbox(closedPort());
+
+        verify(zSetOperations, timeout(5_000)).add(eq(EmailOutboxService.RETRY_KEY),
+                argThat(member -> member.contains("\"attempts\":\"1\"")), anyDouble());
+        verify(streamOperations, timeout(5_000)).acknowledge(EmailOutboxService.OUTBOX_KEY,
+                EmailOutboxService.CONSUMER_GROUP, recordId);
+    }
+
+    @Test
+    void 회수한_메시지는_워커_스레드에서_발송한다() throws Exception {
+        RecordId recordId = RecordId.of("1-0");
+        readOnce();
+        when(streamOperations.pending(eq(EmailOutboxService.OUTBOX_KEY), eq(EmailOutboxService.CONSUMER_GROUP),
+                any(Range.class), anyLong()))
+                .thenReturn(new PendingMessages(EmailOutboxService.CONSUMER_GROUP, List.of(new PendingMessage(
+                        recordId, Consumer.from(EmailOutboxService.CONSUMER_GROUP, "dead-node"),
+                        Duration.ofMillis(VISIBILITY_TIMEOUT_MILLIS * 2), 1))));
+
+        CompletableFuture<String> claimThread = new CompletableFuture<>();
+        AtomicBoolean claimed = new AtomicBoolean();
+        when(streamOperations.claim(eq(EmailOutboxService.OUTBOX_KEY), eq(EmailOutboxService.CONSUMER_GROUP),
+                anyString(), any(Duration.class), any(RecordId[].class)))
+                .thenAnswer(invocation -> {
+                    claimThread.complete(Thread.currentThread().getName());
+                    return claimed.compareAndSet(false, true)
+                            ? List.of(record(recordId, "stalled@smooth.com", "0"))
+                            : List.of();
+                });
+
+        startOutbox(smtpServer.getSmtp().getPort());
+
+        assertThat(claimThread.get(5, TimeUnit.SECONDS)).startsWith("email-outbox-");
+        assertThat(smtpServer.waitForIncomingEmail(5_000, 1)).isTrue();
+        assertThat(smtpServer.getReceivedMessages()[0].getAllRecipients()[0].toString())
+                .isEqualTo("stalled@smooth.com");
+        verify(streamOperations, timeout(5_000)).acknowledge(EmailOutboxService.OUTBOX_KEY,
+                EmailOutboxService.CONSUMER_GROUP, recordId);
+    }
+
+    private void startOutbox(int smtpPort) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(smtpPort);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        pooledMailSender = new PooledMailSender(mailSender, meterRegistry, 1, 100);
+        outboxService = new EmailOutboxService(stringRedisTemplate, new EmailService(mailSender), pooledMailSender,
+                new ObjectMapper(), meterRegistry, 1, 10, 5, 2000, VISIBILITY_TIMEOUT_MILLIS, 60_000);
+        outboxService.start();
+    }
+
+    // 첫 XREADGROUP 에만 레코드 반환, 이후는 빈 응답 (블록 대기 흉내)
+    @SafeVarargs
+    private void readOnce(MapRecord<String, String, String>... records) {
+        AtomicBoolean delivered = new AtomicBoolean();
+        when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .thenAnswer(invocation -> {
+                    if (delivered.compareAndSet(false, true)) {
+                        return List.of(records);
+                    }
+                    Thread.sleep(50);
+                    return List.of();
+                });
+    }
+
+    private static MapRecord<String, String, String> record(RecordId recordId, String to, String attempts) {
+        return StreamRecords.string(Map.of(
+                        "id", "outbox-" + recordId.getValue(),
+                        "to", to,
+                        "code", "12345",
+                        "enqueuedAt", String.valueOf(System.currentTimeMillis()),
+                        "attempts", attempts))
+                .withStreamKey(EmailOutboxService.OUTBOX_KEY)
+                .withId(recordId);
+    }
+
+    private static int closedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.smooth.smooth_backend_user.service;
+
+import com.smooth.smooth_backend_user.global.exception.BusinessException;
+import com.smooth.smooth_backend_user.global.exception.CommonErrorCode;
+import com.smooth.smooth_backend_user.global.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmailVerificationServiceTest {
+
+    private static final String EMAIL = "user@smooth.com";
+    private static final long WRITE_BUDGET_MILLIS = 50;
+
+    private final RedisService redisService = mock(RedisService.class);
+    private final RedisGuard redisGuard = new RedisGuard(new SimpleMeterRegistry(), 5, 60_000,
+            WRITE_BUDGET_MILLIS, WRITE_BUDGET_MILLIS, 4, 16);
+    private final EmailVerificationService emailVerificationService = new EmailVerificationService(
+            redisService, mock(EmailOutboxService.class), mock(UserService.class), redisGuard, false);
+
+    @AfterEach
+    void tearDown() {
+        redisGuard.shutdown();
+    }
+
+    // 예산 초과 시 스크립트는 이미 XADD 했을 수 있음 -> 로컬 재발송 없이 503
+    @Test
+    void 발송_스크립트가_예산을_넘으면_503_으로_응답한다() {
+        slowScript();
+
+        assertThatThrownBy(() -> emailVerificationService.sendVerificationCode(EMAIL))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(CommonErrorCode.SERVICE_UNAVAILABLE));
+    }
+
+    // 예산 초과 시 코드가 이미 소비됐을 수 있음 -> 만료가 아니라 503
+    @Test
+    void 검증_스크립트가_예산을_넘으면_만료가_아니라_503_으로_응답한다() {
+        slowScript();
+
+        assertThatThrownBy(() -> emailVerificationService.verifyCode(EMAIL, "12345"))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(CommonErrorCode.SERVICE_UNAVAILABLE));
+    }
+
+    // 대소문자만 바꾼 주소도 같은 발송 제한/인증코드 키를 사용
+    @Test
+    void 발송_제한과_인증코드_키는_정규화된_이메일_기준이다() {
+        when(redisService.executeScript(any(), anyList(), any(String[].class))).thenReturn(0L, 1L);
+
+        emailVerificationService.sendVerificationCode("User@Smooth.COM");
+        emailVerificationService.verifyCode("USER@smooth.com", "12345");
+
+        verify(redisService).executeScript(any(),
+                eq(List.of(RateLimiter.redisKey("email_send_limit:" + EMAIL), "email_verification:" + EMAIL,
+                        EmailOutboxService.OUTBOX_KEY)),
+                any(String[].class));
+        verify(redisService).executeScript(any(), eq(List.of("email_verification:" + EMAIL)), any(String[].class));
+    }
+
+    private void slowScript() {
+        when(redisService.executeScript(any(), anyList(), any(String[].class))).thenAnswer(invocation -> {
+            Thread.sleep(WRITE_BUDGET_MILLIS * 20);
+            return 1L;
+        });
+    }
+}
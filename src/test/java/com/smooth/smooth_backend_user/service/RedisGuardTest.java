@@ -0,0 +1,94 @@
+package com.smooth.smooth_backend_user.service;
+
+import com.smooth.smooth_backend_user.global.util.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisGuardTest {
+
+    private static final int FAILURE_THRESHOLD = 3;
+    private static final long READ_BUDGET_MILLIS = 50;
+    private static final long SLOW_REDIS_MILLIS = 1_000;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RedisGuard redisGuard = new RedisGuard(meterRegistry, FAILURE_THRESHOLD, 60_000,
+            READ_BUDGET_MILLIS, 200, 4, 16);
+
+    @AfterEach
+    void tearDown() {
+        redisGuard.shutdown();
+    }
+
+    @Test
+    void 예산_안에_응답하면_결과를_반환한다() {
+        String result = redisGuard.read("test.read", () -> "redis", () -> "fallback");
+
+        assertThat(result).isEqualTo("redis");
+        assertThat(redisGuard.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void 느린_Redis_는_예산만큼만_기다리고_fallback_을_반환한다() {
+        long start = System.nanoTime();
+        String result = redisGuard.read("test.read", slowRedis(new AtomicInteger()), () -> "fallback");
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(result).isEqualTo("fallback");
+        assertThat(elapsedMillis).isLessThan(SLOW_REDIS_MILLIS / 2);
+        assertThat(counter("redis.budget.exceeded")).isEqualTo(1);
+        assertThat(counter("redis.fallback.hits")).isEqualTo(1);
+    }
+
+    @Test
+    void 연속_예산_초과시_서킷이_열리고_Redis_를_호출하지_않는다() {
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            redisGuard.read("test.read", slowRedis(calls), () -> "fallback");
+        }
+
+        assertThat(redisGuard.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        String result = redisGuard.read("test.read", slowRedis(calls), () -> "fallback");
+        assertThat(result).isEqualTo("fallback");
+        assertThat(calls).hasValue(FAILURE_THRESHOLD);
+        assertThat(counter("redis.fallback.hits")).isEqualTo(FAILURE_THRESHOLD + 1);
+    }
+
+    @Test
+    void Redis_예외는_fallback_으로_대체된다() {
+        Boolean result = redisGuard.write("test.write", () -> {
+            throw new IllegalStateException("connection reset");
+        }, () -> false);
+
+        assertThat(result).isFalse();
+        assertThat(counter("redis.fallback.hits")).isEqualTo(1);
+        assertThat(counter("redis.budget.exceeded")).isZero();
+    }
+
+    private static Supplier<String> slowRedis(AtomicInteger calls) {
+        return () -> {
+            calls.incrementAndGet();
+            try {
+                Thread.sleep(SLOW_REDIS_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "redis";
+        };
+    }
+
+    private double counter(String name) {
+        return meterRegistry.find(name).tag("operation", "test.read").counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum()
+                + meterRegistry.find(name).tag("operation", "test.write").counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+}
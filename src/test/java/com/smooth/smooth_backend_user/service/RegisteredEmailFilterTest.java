@@ -0,0 +1,55 @@
+package com.smooth.smooth_backend_user.service;
+
+import com.smooth.smooth_backend_user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RegisteredEmailFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final RedisGuard redisGuard = new RedisGuard(meterRegistry, 5, 60_000, 1_000, 1_000, 4, 16);
+
+    @AfterEach
+    void tearDown() {
+        redisGuard.shutdown();
+    }
+
+    @Test
+    void Redis_장애_시_필터_반영_실패는_예외없이_집계된다() {
+        RegisteredEmailFilter filter = filter(false);
+        when(stringRedisTemplate.convertAndSend(anyString(), anyString()))
+                .thenThrow(new RedisConnectionFailureException("redis down"));
+
+        assertThatCode(() -> filter.add("user@smooth.com")).doesNotThrowAnyException();
+
+        assertThat(meterRegistry.counter("user.email-filter.add.failures").count()).isEqualTo(1);
+    }
+
+    @Test
+    void 공유_필터_반영_실패도_예외없이_집계된다() {
+        RegisteredEmailFilter filter = filter(true);
+        when(stringRedisTemplate.hasKey(anyString())).thenThrow(new RedisConnectionFailureException("redis down"));
+
+        assertThatCode(() -> filter.add("user@smooth.com")).doesNotThrowAnyException();
+
+        assertThat(meterRegistry.counter("user.email-filter.add.failures").count()).isEqualTo(1);
+    }
+
+    private RegisteredEmailFilter filter(boolean shared) {
+        return new RegisteredEmailFilter(mock(UserRepository.class), mock(PlatformTransactionManager.class),
+                stringRedisTemplate, mock(RedisMessageListenerContainer.class), redisGuard, meterRegistry,
+                1_000, 0.01, shared, 600_000);
+    }
+}
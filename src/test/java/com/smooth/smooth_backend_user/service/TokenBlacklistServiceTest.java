@@ -0,0 +1,83 @@
+package com.smooth.smooth_backend_user.service;
+
+import com.smooth.smooth_backend_user.config.JwtTokenProvider;
+import com.smooth.smooth_backend_user.config.VerifiedToken;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import reactor.core.publisher.Mono;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenBlacklistServiceTest {
+
+    private static final String SECRET = "blacklist-secret-blacklist-secret-blacklist-secret";
+    private static final long VALIDITY = 60_000L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReactiveStringRedisTemplate reactiveStringRedisTemplate = mock(ReactiveStringRedisTemplate.class);
+    private final RedisGuard redisGuard = new RedisGuard(meterRegistry, 5, 60_000, 1_000, 1_000, 4, 16);
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, VALIDITY);
+    private final TokenBlacklistService tokenBlacklistService = new TokenBlacklistService(
+            mock(RedisService.class),
+            new AsyncRedisService(reactiveStringRedisTemplate),
+            redisGuard,
+            mock(RedisFallbackStore.class),
+            mock(RedisMessageListenerContainer.class),
+            meterRegistry,
+            VALIDITY, VALIDITY, 1_000, 5);
+
+    @AfterEach
+    void tearDown() {
+        redisGuard.shutdown();
+    }
+
+    @Test
+    void 배포_전에_원문_토큰_키로_폐기된_토큰은_계속_폐기로_판정된다() {
+        String token = legacyToken();
+        when(reactiveStringRedisTemplate.hasKey(anyString())).thenReturn(Mono.just(false));
+        when(reactiveStringRedisTemplate.hasKey("blacklist:" + token)).thenReturn(Mono.just(true));
+
+        VerifiedToken verified = jwtTokenProvider.verifyToken(token).orElseThrow();
+
+        assertThat(verified.getLegacyRevocationId()).isEqualTo(token);
+        assertThat(tokenBlacklistService.isBlacklisted(verified)).isTrue();
+    }
+
+    @Test
+    void jti_가_있는_토큰은_digest_키만_조회한다() {
+        String token = jwtTokenProvider.createToken(1L, "user@smooth.com");
+        when(reactiveStringRedisTemplate.hasKey(anyString())).thenReturn(Mono.just(false));
+
+        VerifiedToken verified = jwtTokenProvider.verifyToken(token).orElseThrow();
+
+        assertThat(verified.getLegacyRevocationId()).isNull();
+        assertThat(tokenBlacklistService.isBlacklisted(verified)).isFalse();
+        verify(reactiveStringRedisTemplate).hasKey("blacklist:" + verified.getRevocationId());
+        verify(reactiveStringRedisTemplate, never()).hasKey("blacklist:" + token);
+    }
+
+    // 키 링 도입 전 형식 (kid, jti 없음)
+    private static String legacyToken() {
+        Date now = new Date();
+        return Jwts.builder()
+                .setSubject("1")
+                .claim("email", "user@smooth.com")
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + VALIDITY))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
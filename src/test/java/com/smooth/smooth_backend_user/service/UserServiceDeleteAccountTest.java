@@ -0,0 +1,81 @@
+package com.smooth.smooth_backend_user.service;
+
+import com.smooth.smooth_backend_user.entity.User;
+import com.smooth.smooth_backend_user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+// 회원탈퇴와 토큰 폐기가 한 트랜잭션인지 검사 (서비스 트랜잭션이 실제로 커밋/롤백되도록 테스트 트랜잭션은 끔)
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:user-delete-account;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(UserService.class)
+class UserServiceDeleteAccountTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private TokenBlacklistService tokenBlacklistService;
+
+    @MockitoBean
+    private PasswordHashingService passwordHashingService;
+
+    @MockitoBean
+    private RegisteredEmailFilter registeredEmailFilter;
+
+    @MockitoBean
+    private UserProfileCache userProfileCache;
+
+    @Test
+    void 토큰_폐기에_실패하면_탈퇴가_롤백된다() {
+        Long userId = seedUser("rollback@smooth.com");
+        doThrow(new RedisConnectionFailureException("redis down")).when(tokenBlacklistService).revokeAllTokens(userId);
+
+        assertThatThrownBy(() -> userService.deleteAccount(userId))
+                .isInstanceOf(RedisConnectionFailureException.class);
+
+        assertThat(userService.existsById(userId)).isTrue();
+    }
+
+    @Test
+    void 탈퇴하면_토큰이_폐기되고_사용자가_삭제된다() {
+        Long userId = seedUser("delete@smooth.com");
+
+        userService.deleteAccount(userId);
+
+        verify(tokenBlacklistService).revokeAllTokens(userId);
+        assertThat(userService.existsById(userId)).isFalse();
+    }
+
+    private Long seedUser(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z1Z5Lx0p6q7y8x9wK1mN2oPq");
+        user.setName("사용자");
+        user.setPhone("010-1234-5678");
+        user.setTermsOfServiceAgreed(true);
+        user.setPrivacyPolicyAgreed(true);
+        user.setTermsAgreedAt(LocalDateTime.now());
+        return userRepository.save(user).getId();
+    }
+}